@@ -1,5 +1,7 @@
 package seedu.classify;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --run} as its first argument, it runs a script of commands without
+ * starting the user interface instead, see {@link ScriptRunner}.
  */
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(ScriptRunner.RUN_OPTION)) {
+            ScriptRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -3,10 +3,15 @@ package seedu.classify;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import seedu.classify.commons.core.Config;
 import seedu.classify.commons.core.LogsCenter;
 import seedu.classify.commons.core.Version;
@@ -18,11 +23,11 @@ import seedu.classify.logic.LogicManager;
 import seedu.classify.model.Model;
 import seedu.classify.model.ModelManager;
 import seedu.classify.model.ReadOnlyStudentRecord;
-import seedu.classify.model.ReadOnlyUserPrefs;
 import seedu.classify.model.StudentRecord;
 import seedu.classify.model.UserPrefs;
 import seedu.classify.model.util.SampleDataUtil;
-import seedu.classify.storage.JsonStudentRecordStorage;
+import seedu.classify.storage.BinaryStudentRecordStorage;
+import seedu.classify.storage.JournaledStudentRecordStorage;
 import seedu.classify.storage.JsonUserPrefsStorage;
 import seedu.classify.storage.Storage;
 import seedu.classify.storage.StorageManager;
@@ -46,34 +51,81 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // When the application was launched, used to log how long the window and the student record take to appear
+    private final long launchTime = System.nanoTime();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Class-ify ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        initComponents(appParameters.getConfigPath());
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component of the application except the user interface, using the config file at
+     * {@code configFilePath}, or the default config file if it is null.
+     * The model starts with an empty student record, which is filled by {@link #loadStudentRecord(Executor)}.
+     */
+    void initComponents(Path configFilePath) {
+        config = initConfig(configFilePath);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        StudentRecordStorage studentRecordStorage = new JsonStudentRecordStorage(userPrefs.getStudentRecordFilePath());
+        StudentRecordStorage studentRecordStorage = initStudentRecordStorage(userPrefs);
         storage = new StorageManager(studentRecordStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = new ModelManager(new StudentRecord(), userPrefs);
 
         logic = new LogicManager(model, storage);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns a {@code StudentRecordStorage} for the file and format given in {@code userPrefs}.
+     * The binary format does not share the default json file. With the default file path, each format instead reads
+     * the default file of the other format if it was saved to more recently, so that switching formats either way
+     * keeps the latest student record. {@code userPrefs} is left as it is.
+     */
+    private StudentRecordStorage initStudentRecordStorage(UserPrefs userPrefs) {
+        Path studentRecordFilePath = userPrefs.getStudentRecordFilePath();
+        boolean isDefaultFilePath = studentRecordFilePath.equals(UserPrefs.DEFAULT_STUDENT_RECORD_FILE_PATH);
+        switch (userPrefs.getStudentRecordFormat()) {
+        case BINARY:
+            return isDefaultFilePath
+                    ? new BinaryStudentRecordStorage(UserPrefs.DEFAULT_BINARY_STUDENT_RECORD_FILE_PATH,
+                            studentRecordFilePath)
+                    : new BinaryStudentRecordStorage(studentRecordFilePath);
+        case JSON:
+        default:
+            return isDefaultFilePath
+                    ? new JournaledStudentRecordStorage(studentRecordFilePath,
+                            UserPrefs.DEFAULT_BINARY_STUDENT_RECORD_FILE_PATH)
+                    : new JournaledStudentRecordStorage(studentRecordFilePath);
+        }
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s Student Record and {@code userPrefs}. <br>
+     * Loads the student record from storage into the model in the background, adding its students to the model
+     * using {@code modelExecutor}.
+     *
+     * @return a future that completes with a message saying how many students were loaded.
+     * @see Logic#loadStudentRecord(java.util.function.Supplier, Executor)
+     */
+    CompletableFuture<String> loadStudentRecord(Executor modelExecutor) {
+        return logic.loadStudentRecord(() -> readStudentRecord(storage), modelExecutor);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s Student Record. <br>
      * The data from the sample Student Record will be used instead if {@code storage}'s Student Record is not found,
      * or an empty Student Record will be used instead if errors occur when reading {@code storage}'s Student Record.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyStudentRecord readStudentRecord(Storage storage) {
         Optional<ReadOnlyStudentRecord> studentRecordOptional;
         ReadOnlyStudentRecord initialData;
         try {
@@ -90,7 +142,7 @@ public class MainApp extends Application {
             initialData = new StudentRecord();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -168,12 +220,35 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting Class-ify " + MainApp.VERSION);
+        // the student record is read while the window is being built, and added to the model once it is shown
+        CompletableFuture<String> studentRecordLoaded = loadStudentRecord(Platform::runLater);
+        // the window is shown within ui.start, before any students can be added by tasks given to Platform#runLater
+        primaryStage.addEventHandler(WindowEvent.WINDOW_SHOWN, event ->
+                logger.info("Time to first frame: " + millisSinceLaunch() + " ms"));
         ui.start(primaryStage);
+
+        studentRecordLoaded.whenComplete((message, throwable) -> {
+            if (throwable != null) {
+                ui.showStudentRecordLoaded(throwable.getCause().getMessage());
+                return;
+            }
+            logger.info("Time to fully loaded: " + millisSinceLaunch() + " ms");
+            ui.showStudentRecordLoaded(message);
+        });
+    }
+
+    private long millisSinceLaunch() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launchTime);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Class-ify ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save student record " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,67 @@
+package seedu.classify;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.commons.util.StringUtil;
+import seedu.classify.logic.LogicManager;
+import seedu.classify.logic.commands.CommandResult;
+import seedu.classify.logic.commands.RunCommand;
+import seedu.classify.logic.commands.exceptions.CommandException;
+import seedu.classify.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands against the student record without starting the user interface.
+ * The arguments are the same as those of the {@code run} command, e.g.
+ * {@code java -jar classify.jar --run scripts/addStudents.txt onerror/continue}.
+ */
+public class ScriptRunner {
+
+    public static final String RUN_OPTION = "--run";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private ScriptRunner() {} // prevents instantiation
+
+    /**
+     * Runs the script given by {@code args} and saves the student record, then exits with status 0 if every
+     * command succeeded, or 1 otherwise.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println(RunCommand.MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        MainApp app = new MainApp();
+        app.initComponents(null);
+        // there is no window to show first, so the student record is loaded before the script is run
+        try {
+            app.loadStudentRecord(Runnable::run).join();
+        } catch (CompletionException e) {
+            // nothing is run on the empty student record left by a failed load
+            System.err.println(e.getCause().getMessage());
+            System.exit(1);
+        }
+        int exitStatus = 0;
+        app.logic.setBackgroundTaskListener(System.out::println);
+        try {
+            CommandResult commandResult = app.logic.execute(RunCommand.COMMAND_WORD + " " + String.join(" ", args));
+            System.out.println(commandResult.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            exitStatus = 1;
+        }
+
+        try {
+            app.logic.flush();
+        } catch (IOException ioe) {
+            logger.severe("Failed to save student record " + StringUtil.getDetails(ioe));
+            System.err.println(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe);
+            exitStatus = 1;
+        }
+        System.exit(exitStatus);
+    }
+}
@@ -17,6 +17,14 @@ public class Messages {
     public static final String MESSAGE_SINGLE_PERSON_LISTED_IN_CLASS = "There is %1$d student in this class!";
     public static final String MESSAGE_CLASS_SORTED_BY_GRADE = "Students of class %s sorted by grade!\n";
     public static final String MESSAGE_DISPLAY_MEAN = "Mean of %s for class %s is %.2f";
+    public static final String MESSAGE_DISPLAY_SPREAD = "\nStandard deviation is %.2f (lowest %d, highest %d)";
+    public static final String MESSAGE_DISPLAY_QUARTILES =
+            "\nMedian is %.2f (lower quartile %.2f, upper quartile %.2f)";
+    public static final String MESSAGE_DISPLAY_PERCENTILE = "\nPercentile %d is %.2f";
+    public static final String MESSAGE_DISPLAY_DISTRIBUTION = "\nDistribution: %s";
+    public static final String MESSAGE_MISSING_GRADES = "\n%1$d student(s) have no grade for %2$s";
+    public static final String MESSAGE_NO_GRADES = "No student in class %2$s has a grade for %1$s."
+            + "\nMean cannot be calculated.";
     public static final String MESSAGE_DELETE_COMMAND_DOUBLE_INPUT = "Name and ID inputs detected. "
             + "Please specify either name or ID only.";
 }
@@ -0,0 +1,11 @@
+package seedu.classify.commons.core;
+
+/**
+ * The file formats in which the student record can be stored.
+ */
+public enum StudentRecordFormat {
+    /** Human-readable json, with later changes appended to a journal. */
+    JSON,
+    /** Compact binary, which loads faster for large student records. */
+    BINARY
+}
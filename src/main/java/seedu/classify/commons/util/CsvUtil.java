@@ -0,0 +1,117 @@
+package seedu.classify.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.classify.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts between lines of comma-separated values (CSV) and their fields.
+ * Fields may be enclosed in double quotes, so that they can contain commas, and a double quote within such a field is
+ * written as two double quotes. A field cannot span several lines.
+ */
+public class CsvUtil {
+
+    public static final char SEPARATOR = ',';
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field should be followed by a comma.";
+
+    private static final char QUOTE = '"';
+
+    private CsvUtil() {} // prevents instantiation
+
+    /**
+     * Splits {@code line} into its fields, in a single pass over its characters.
+     * Quoted fields are returned without their quotes; other fields are returned as they are.
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by anything other than a comma.
+     */
+    public static List<String> splitLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            if (position < line.length() && line.charAt(position) == QUOTE) {
+                position = readQuotedField(line, position + 1, fields);
+            } else {
+                int separatorPosition = line.indexOf(SEPARATOR, position);
+                int fieldEnd = separatorPosition == -1 ? line.length() : separatorPosition;
+                fields.add(line.substring(position, fieldEnd));
+                position = fieldEnd;
+            }
+
+            if (position == line.length()) {
+                return fields;
+            }
+            // line.charAt(position) is a separator
+            position++;
+        }
+    }
+
+    /**
+     * Adds the quoted field that starts at {@code start}, just after its opening quote, to {@code fields}.
+     *
+     * @return the position just after the closing quote.
+     */
+    private static int readQuotedField(String line, int start, List<String> fields) throws IllegalValueException {
+        StringBuilder field = new StringBuilder();
+        int position = start;
+        while (true) {
+            int quotePosition = line.indexOf(QUOTE, position);
+            if (quotePosition == -1) {
+                throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+            }
+            field.append(line, position, quotePosition);
+            if (quotePosition + 1 < line.length() && line.charAt(quotePosition + 1) == QUOTE) {
+                // An escaped quote
+                field.append(QUOTE);
+                position = quotePosition + 2;
+                continue;
+            }
+
+            position = quotePosition + 1;
+            if (position < line.length() && line.charAt(position) != SEPARATOR) {
+                throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+            }
+            fields.add(field.toString());
+            return position;
+        }
+    }
+
+    /**
+     * Joins {@code fields} into a line, the reverse of {@link #splitLine(String)}.
+     * Fields that would otherwise be read differently are enclosed in double quotes.
+     */
+    public static String joinLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String field) {
+        boolean isQuoteNeeded = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1
+                || field.indexOf('\n') != -1 || field.indexOf('\r') != -1;
+        if (!isQuoteNeeded) {
+            line.append(field);
+            return;
+        }
+
+        line.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                line.append(QUOTE);
+            }
+            line.append(c);
+        }
+        line.append(QUOTE);
+    }
+}
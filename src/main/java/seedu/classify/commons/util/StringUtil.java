@@ -5,7 +5,9 @@ import static seedu.classify.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -65,4 +67,93 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, the characters matched by {@code \d} in a regex.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter.
+     */
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, the characters matched by {@code \p{Alnum}} in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || isAsciiLetter(c);
+    }
+
+    /**
+     * Returns true if {@code s} is not empty and only contains ASCII digits.
+     * Same as matching the regex {@code \d+}, without compiling a pattern.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAsciiDigits(String s) {
+        requireNonNull(s);
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAsciiDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return !s.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code s} starts with an ASCII letter or digit, and only contains ASCII letters, digits and
+     * spaces.
+     * Same as matching the regex {@code [\p{Alnum}][\p{Alnum} ]*}, without compiling a pattern.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAlphanumericWithSpaces(String s) {
+        requireNonNull(s);
+        if (s.isEmpty() || !isAsciiAlphanumeric(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character matched by {@code \s} in a regex.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns the words of {@code s}, which are separated by whitespace.
+     * Same as the non-empty strings returned by splitting {@code s} around the regex {@code \s+}, without compiling a
+     * pattern.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static List<String> splitWords(String s) {
+        requireNonNull(s);
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i < s.length(); i++) {
+            if (isRegexWhitespace(s.charAt(i))) {
+                if (wordStart != -1) {
+                    words.add(s.substring(wordStart, i));
+                    wordStart = -1;
+                }
+            } else if (wordStart == -1) {
+                wordStart = i;
+            }
+        }
+        if (wordStart != -1) {
+            words.add(s.substring(wordStart));
+        }
+        return words;
+    }
 }
@@ -0,0 +1,142 @@
+package seedu.classify.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.logic.commands.FindCommand;
+import seedu.classify.logic.parser.FindCommandParser;
+import seedu.classify.model.Model;
+import seedu.classify.model.student.Student;
+
+/**
+ * Shows the students found by a find command by name while it is still being typed.
+ * Each change to the command text restarts a short delay, so that only the text the user pauses at is searched.
+ * Searches run on a background thread, as a prefix lookup in the name index of the student record, which is kept up
+ * to date as students change and can be looked up while it is updated. Only the students found are passed to the
+ * thread that the model is used on. A search is dropped if the text changes again, or a command is executed, before
+ * its result is shown. The students found, and the students shown again once the text is no longer a find command,
+ * keep the order of the students shown before the live search started.
+ *
+ * All methods must be called from the thread that the model is used on.
+ */
+public class LiveSearch {
+
+    /** Time to wait after the latest change to the command text before searching. */
+    public static final long DEBOUNCE_MILLIS = 100;
+
+    private final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+
+    private final Model model;
+    private final ScheduledExecutorService searchExecutor;
+    private final long debounceMillis;
+    private ScheduledFuture<?> pendingSearch;
+    // Incremented for every change to the command text, so that the results of older searches can be dropped
+    private volatile long latestSearch = 0;
+    // True if the displayed students are the result of a live search, rather than of a command
+    private boolean isShowingResults = false;
+    // Order of the students shown before the live search started, or null if they were in the student record's order
+    private Comparator<? super Student> shownComparator;
+
+    /**
+     * Creates a {@code LiveSearch} of the students in {@code model}, which searches on {@code searchExecutor}
+     * {@code debounceMillis} milliseconds after the latest change to the command text.
+     */
+    public LiveSearch(Model model, ScheduledExecutorService searchExecutor, long debounceMillis) {
+        requireNonNull(model);
+        requireNonNull(searchExecutor);
+        this.model = model;
+        this.searchExecutor = searchExecutor;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Searches for the students named in {@code commandText} if it is a find command by name, and shows them using
+     * {@code modelExecutor}, which should run tasks on the thread that the model is used on.
+     * Otherwise, the students shown before the live search started are shown again.
+     */
+    public void search(String commandText, Executor modelExecutor) {
+        requireNonNull(commandText);
+        requireNonNull(modelExecutor);
+        long search = cancelPendingSearch();
+        Optional<List<String>> keywords = parseNameKeywords(commandText);
+        if (!keywords.isPresent()) {
+            if (isShowingResults) {
+                showStudents(model.getPrevPredicate());
+                isShowingResults = false;
+            }
+            return;
+        }
+
+        pendingSearch = searchExecutor.schedule(() -> {
+            if (search != latestSearch) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            Set<Student> foundStudents = model.getStudentsWithAnyNamePrefix(keywords.get());
+            logger.fine("Live search found " + foundStudents.size() + " students in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+            modelExecutor.execute(() -> {
+                // the text may have changed, or a command may have been executed, while searching
+                if (search != latestSearch) {
+                    return;
+                }
+                if (!isShowingResults) {
+                    shownComparator = model.getFilteredStudents().getComparator();
+                    isShowingResults = true;
+                }
+                showStudents(foundStudents::contains);
+            });
+        }, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops any search in progress from showing its result, and leaves the displayed students as they are.
+     * Should be called before a command is executed, as the command decides which students are displayed.
+     */
+    public void reset() {
+        cancelPendingSearch();
+        isShowingResults = false;
+    }
+
+    /**
+     * Shows the students that match {@code predicate}, in the order of the students shown before the live search.
+     */
+    private void showStudents(Predicate<Student> predicate) {
+        model.updateFilteredStudentList(predicate);
+        if (shownComparator != null) {
+            model.sortFilteredStudentList(shownComparator::compare);
+        }
+    }
+
+    /**
+     * Cancels the pending search, if any.
+     *
+     * @return the number of the next search.
+     */
+    private long cancelPendingSearch() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+        return ++latestSearch;
+    }
+
+    private static Optional<List<String>> parseNameKeywords(String commandText) {
+        String trimmedText = commandText.trim();
+        if (!trimmedText.startsWith(FindCommand.COMMAND_WORD + " ")) {
+            return Optional.empty();
+        }
+        return FindCommandParser.parseNameKeywords(trimmedText.substring(FindCommand.COMMAND_WORD.length()));
+    }
+}
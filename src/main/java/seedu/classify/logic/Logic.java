@@ -1,6 +1,11 @@
 package seedu.classify.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import seedu.classify.commons.core.GuiSettings;
@@ -21,7 +26,7 @@ public interface Logic {
      * Executes the command and returns the result.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
-     * @throws CommandException If an error occurs during command execution.
+     * @throws CommandException If an error occurs during command execution, or the student record is still loading.
      * @throws ParseException If an error occurs during parsing.
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
@@ -53,4 +58,45 @@ public interface Logic {
 
     FilteredStudents getFilteredStudents();
 
+    /**
+     * Sets the listener to pass messages from background tasks to. The background tasks of commands run on a
+     * background thread, so the listener is called from that thread.
+     */
+    void setBackgroundTaskListener(Consumer<String> backgroundTaskListener);
+
+    /**
+     * Loads the student record returned by {@code studentRecordReader} into the model in the background.
+     * The student record is read on a background thread, and its students are then added to the model in chunks,
+     * each as a separate task on {@code modelExecutor}. Commands are rejected until every student has been added.
+     * Progress messages are passed to the background task listener.
+     *
+     * If loading fails, the model is left with an empty student record, which is not saved until it is changed.
+     *
+     * @return a future that completes with a message saying how many students were loaded, or completes
+     *     exceptionally with a {@code CommandException} saying that loading failed.
+     */
+    CompletableFuture<String> loadStudentRecord(Supplier<ReadOnlyStudentRecord> studentRecordReader,
+            Executor modelExecutor);
+
+    /**
+     * Shows the students found by {@code commandText} if it is a find command by name that is still being typed, or
+     * the students shown before otherwise. Should be called whenever the command text changes. The search waits on a
+     * background thread for a short delay, and then runs on the model's thread using {@code modelExecutor}.
+     *
+     * @see LiveSearch
+     */
+    void searchAsYouType(String commandText, Executor modelExecutor);
+
+    /**
+     * Returns true if the student record is still being loaded.
+     */
+    boolean isLoading();
+
+    /**
+     * Waits for all background tasks to finish, then saves any change to the student record that has not been
+     * written to disk yet, and waits for it to be written. Nothing is saved if the student record is still loading.
+     * @throws IOException if the student record cannot be saved.
+     */
+    void flush() throws IOException;
+
 }
@@ -2,11 +2,23 @@ package seedu.classify.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.classify.commons.core.GuiSettings;
 import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.logic.commands.BackgroundTask;
 import seedu.classify.logic.commands.Command;
 import seedu.classify.logic.commands.CommandResult;
 import seedu.classify.logic.commands.exceptions.CommandException;
@@ -15,46 +27,235 @@ import seedu.classify.logic.parser.exceptions.ParseException;
 import seedu.classify.model.FilteredStudents;
 import seedu.classify.model.Model;
 import seedu.classify.model.ReadOnlyStudentRecord;
+import seedu.classify.model.StudentRecord;
 import seedu.classify.model.student.Student;
 import seedu.classify.storage.Storage;
+import seedu.classify.storage.StudentRecordSaver;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_LOADING = "The student record is still loading. Please try again shortly.";
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading student record: %1$d of %2$d students loaded...";
+    public static final String MESSAGE_LOADED = "Loaded %1$d students in %2$d ms.";
+    public static final String MESSAGE_LOAD_FAILED = "Could not load the student record: %1$s\nClass-ify has started"
+            + " with an empty student record. The data file is left as it is until you change the student record,"
+            + " so you can restart Class-ify to try loading it again.";
+
+    /** Number of students added to the model at a time while the student record is loading. */
+    public static final int LOAD_CHUNK_SIZE = 5000;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final StudentRecordSaver saver;
     private final StudentRecordParser studentRecordParser;
+    private final Executor taskExecutor;
+    // Completes once every background task started so far has finished
+    private CompletableFuture<Void> backgroundTasks = CompletableFuture.completedFuture(null);
+    private volatile Consumer<String> backgroundTaskListener = message -> {};
+    // Created when it is first used, as scripts never search as they are typed
+    private LiveSearch liveSearch;
+    // True from the start of loading the student record until all of it is in the model
+    private volatile boolean isLoading = false;
+    // Incremented whenever the student record changes
+    private long recordVersion = 0;
+    // Version of the student record last handed to the saver, or -1 if the saved file may be out of date
+    private long requestedVersion = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The student record is saved on a background thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new StudentRecordSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the student record with
+     * {@code saver}. The background tasks of commands are run on a background thread.
+     */
+    public LogicManager(Model model, StudentRecordSaver saver) {
+        this(model, saver, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "background-task");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the student record with
+     * {@code saver} and runs the background tasks of commands using {@code taskExecutor}.
+     * {@code taskExecutor} should run one task at a time.
+     */
+    public LogicManager(Model model, StudentRecordSaver saver, Executor taskExecutor) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
+        this.taskExecutor = taskExecutor;
         studentRecordParser = new StudentRecordParser();
+        model.getStudentRecord().getStudentList().addListener((ListChangeListener<Student>) change ->
+                recordVersion++);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isLoading) {
+            throw new CommandException(MESSAGE_LOADING);
+        }
+        if (liveSearch != null) {
+            liveSearch.reset();
+        }
 
         CommandResult commandResult;
         Command command = studentRecordParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        commandResult.getBackgroundTask().ifPresent(this::runInBackground);
 
-        try {
-            storage.saveStudentRecord(model.getStudentRecord());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // commands that only change what is displayed, such as viewStats, leave the student record as it is
+        requestSaveIfChanged();
+
+        // a failed save is reported with the result of the command after the save was requested, and retried after
+        // the next command; the command itself has already been executed, so it is not reported as failed
+        Optional<IOException> saveError = saver.takeSaveError();
+        if (saveError.isPresent()) {
+            logger.warning("Failed to save the student record: " + saveError.get());
+            requestedVersion = -1;
+            return commandResult.withExtraFeedback(FILE_OPS_ERROR_MESSAGE + saveError.get());
         }
 
         return commandResult;
     }
 
+    private void requestSaveIfChanged() {
+        if (requestedVersion != recordVersion) {
+            saver.requestSave(StudentRecordSaver.snapshotOf(model.getStudentRecord()));
+            requestedVersion = recordVersion;
+        }
+    }
+
+    private void runInBackground(BackgroundTask backgroundTask) {
+        backgroundTasks = backgroundTasks.thenRunAsync(() -> {
+            Consumer<String> listener = backgroundTaskListener;
+            try {
+                listener.accept(backgroundTask.run(listener));
+            } catch (CommandException e) {
+                logger.warning("Background task failed: " + e.getMessage());
+                listener.accept(e.getMessage());
+            }
+        }, taskExecutor).exceptionally(throwable -> {
+            // an unexpected failure should not stop later tasks from running
+            logger.severe("Background task failed unexpectedly: " + throwable);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<String> loadStudentRecord(Supplier<ReadOnlyStudentRecord> studentRecordReader,
+            Executor modelExecutor) {
+        isLoading = true;
+        long startTime = System.nanoTime();
+        return CompletableFuture.supplyAsync(studentRecordReader, taskExecutor)
+                .thenCompose(studentRecord -> addInChunks(studentRecord.getStudentList(), modelExecutor))
+                .handleAsync((studentsLoaded, throwable) -> {
+                    isLoading = false;
+                    if (throwable != null) {
+                        throw new CompletionException(recoverFromFailedLoad(throwable));
+                    }
+                    // the loaded students are already in the data file
+                    requestedVersion = recordVersion;
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                    logger.info("Loaded " + studentsLoaded + " students in " + elapsedMillis + " ms");
+                    return String.format(MESSAGE_LOADED, studentsLoaded, elapsedMillis);
+                }, modelExecutor);
+    }
+
+    /**
+     * Removes the students added before loading the student record failed with {@code throwable}, so that commands
+     * can be used on an empty student record.
+     * The empty student record is treated as saved, so that the data file is only replaced once the user changes the
+     * student record.
+     *
+     * @return the exception to complete the loading with, whose message tells the user that loading failed.
+     */
+    private CommandException recoverFromFailedLoad(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        logger.severe("Failed to load the student record: " + cause);
+        model.setStudentRecord(new StudentRecord());
+        requestedVersion = recordVersion;
+        return new CommandException(String.format(MESSAGE_LOAD_FAILED, cause), cause);
+    }
+
+    /**
+     * Adds {@code students} to the model in chunks of {@link #LOAD_CHUNK_SIZE}, each as a separate task on
+     * {@code modelExecutor}, so that the user interface can be redrawn between chunks.
+     *
+     * @return a future that completes with the number of students added once every chunk has been added.
+     */
+    private CompletableFuture<Integer> addInChunks(List<Student> students, Executor modelExecutor) {
+        CompletableFuture<Void> chunksAdded = CompletableFuture.completedFuture(null);
+        for (int chunkStart = 0; chunkStart < students.size(); chunkStart += LOAD_CHUNK_SIZE) {
+            List<Student> chunk = students.subList(chunkStart, Math.min(chunkStart + LOAD_CHUNK_SIZE,
+                    students.size()));
+            int studentsLoaded = chunkStart + chunk.size();
+            chunksAdded = chunksAdded.thenRunAsync(() -> {
+                model.addStudents(chunk);
+                if (studentsLoaded < students.size()) {
+                    backgroundTaskListener.accept(String.format(MESSAGE_LOADING_PROGRESS, studentsLoaded,
+                            students.size()));
+                }
+            }, modelExecutor);
+        }
+        return chunksAdded.thenApply(unused -> students.size());
+    }
+
+    @Override
+    public void searchAsYouType(String commandText, Executor modelExecutor) {
+        if (liveSearch == null) {
+            ScheduledExecutorService searchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "live-search");
+                thread.setDaemon(true);
+                return thread;
+            });
+            liveSearch = new LiveSearch(model, searchExecutor, LiveSearch.DEBOUNCE_MILLIS);
+        }
+        liveSearch.search(commandText, modelExecutor);
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public void setBackgroundTaskListener(Consumer<String> backgroundTaskListener) {
+        this.backgroundTaskListener = backgroundTaskListener;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        backgroundTasks.join();
+        if (isLoading) {
+            // saving now would overwrite the data file with the part of the student record loaded so far
+            logger.warning("Student record is still loading, so it is not saved");
+            return;
+        }
+        requestSaveIfChanged();
+        saver.flush();
+
+        // the last background save may have failed after the last command, leaving nothing pending to flush
+        Optional<IOException> saveError = saver.takeSaveError();
+        if (saveError.isPresent()) {
+            logger.warning("Saving the student record again, as the last save failed: " + saveError.get());
+            saver.requestSave(StudentRecordSaver.snapshotOf(model.getStudentRecord()));
+            saver.flush();
+        }
+    }
+
     @Override
     public ReadOnlyStudentRecord getStudentRecord() {
         return model.getStudentRecord();
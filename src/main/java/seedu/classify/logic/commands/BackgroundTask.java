@@ -0,0 +1,23 @@
+package seedu.classify.logic.commands;
+
+import java.util.function.Consumer;
+
+import seedu.classify.logic.commands.exceptions.CommandException;
+
+/**
+ * Represents work that a command leaves to be done after it returns, on a background thread, such as writing a large
+ * file. The task should only use data that was copied when the command was executed, as the model may change while
+ * the task runs.
+ */
+@FunctionalInterface
+public interface BackgroundTask {
+
+    /**
+     * Runs the task, passing messages on its progress to {@code progressListener}.
+     *
+     * @return feedback message of the finished task for display.
+     * @throws CommandException If an error occurs while running the task.
+     */
+    String run(Consumer<String> progressListener) throws CommandException;
+
+}
@@ -3,6 +3,7 @@ package seedu.classify.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents the result of a command execution.
@@ -20,14 +21,31 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Work left to be done in the background, or null if there is none. */
+    private final BackgroundTask backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean toggleView, boolean exit) {
+        this(feedbackToUser, showHelp, toggleView, exit, null);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean toggleView, boolean exit,
+                          BackgroundTask backgroundTask) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.toggleView = toggleView;
         this.exit = exit;
+        this.backgroundTask = backgroundTask;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, which leaves
+     * {@code backgroundTask} to be run in the background, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this(feedbackToUser, false, false, false, requireNonNull(backgroundTask));
     }
 
     /**
@@ -38,6 +56,14 @@ public class CommandResult {
         this(feedbackToUser, false, false, false);
     }
 
+    /**
+     * Returns a copy of this result, with {@code extraFeedback} added to the feedback to the user on a new line.
+     */
+    public CommandResult withExtraFeedback(String extraFeedback) {
+        requireNonNull(extraFeedback);
+        return new CommandResult(feedbackToUser + "\n" + extraFeedback, showHelp, toggleView, exit, backgroundTask);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -54,6 +80,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +99,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && toggleView == otherCommandResult.toggleView
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(backgroundTask, otherCommandResult.backgroundTask);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, toggleView, exit);
+        return Objects.hash(feedbackToUser, showHelp, toggleView, exit, backgroundTask);
     }
 
 }
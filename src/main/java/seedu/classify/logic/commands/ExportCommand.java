@@ -0,0 +1,188 @@
+package seedu.classify.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.commons.core.Messages;
+import seedu.classify.commons.util.CsvUtil;
+import seedu.classify.commons.util.FileUtil;
+import seedu.classify.logic.commands.exceptions.CommandException;
+import seedu.classify.logic.parser.CliSyntax;
+import seedu.classify.logic.parser.StudentCsvParser;
+import seedu.classify.model.Model;
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.ClassPredicate;
+import seedu.classify.model.student.Student;
+import seedu.classify.storage.JournaledStudentRecordStorage;
+import seedu.classify.storage.JsonStudentRecordStorage;
+
+/**
+ * Exports the displayed students, or the students of a class, to a CSV or JSON file.
+ * The students are copied when the command is executed, and written to the file one at a time by a
+ * {@link BackgroundTask}, so that the student record can be used while a large export is in progress.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the displayed students, or all students in"
+            + " the given class, to a CSV or JSON file. The format is chosen by the file extension. CSV files can be"
+            + " imported again, and JSON files can be used as a data file.\n"
+            + "Parameters: FILE_PATH [" + CliSyntax.PREFIX_CLASS + "CLASS]\n"
+            + "Example: " + COMMAND_WORD + " exports/4A1.csv " + CliSyntax.PREFIX_CLASS + "4A1";
+
+    public static final String MESSAGE_EXPORTING = "Exporting %1$d students to %2$s...";
+    public static final String MESSAGE_PROGRESS = "Exporting students to %3$s: %1$d of %2$d written...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d students to %2$s in %3$d ms.";
+    public static final String MESSAGE_WRITE_ERROR = "Could not export students to %1$s: %2$s";
+    public static final String MESSAGE_DATA_FILE = "Cannot export students to %1$s, as it is the data file of"
+            + " Class-ify. Please choose another file.";
+
+    /** Number of students written between progress messages. */
+    public static final int PROGRESS_INTERVAL = 10000;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /**
+     * Represents the formats students can be exported in.
+     */
+    public enum Format {
+        CSV, JSON
+    }
+
+    private final Path exportFilePath;
+    private final Format format;
+    private final Optional<Class> className;
+
+    /**
+     * Creates an ExportCommand to export students to the file at {@code exportFilePath} in the given {@code format}.
+     * If {@code className} is present, all students in that class are exported; otherwise the displayed students are.
+     */
+    public ExportCommand(Path exportFilePath, Format format, Optional<Class> className) {
+        requireNonNull(exportFilePath);
+        requireNonNull(format);
+        requireNonNull(className);
+        this.exportFilePath = exportFilePath;
+        this.format = format;
+        this.className = className;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isDataFile(exportFilePath, model.getStudentRecordFilePath())) {
+            throw new CommandException(String.format(MESSAGE_DATA_FILE, exportFilePath));
+        }
+
+        // Students are immutable, so copying the list is enough for the export to be unaffected by later commands
+        List<Student> students;
+        if (className.isPresent()) {
+            if (!model.hasClass(className.get())) {
+                throw new CommandException(Messages.MESSAGE_STUDENT_CLASS_NOT_FOUND);
+            }
+            ClassPredicate predicate = new ClassPredicate(className.get());
+            students = model.getStudentRecord().getStudentList().stream()
+                    .filter(predicate)
+                    .collect(Collectors.toList());
+        } else {
+            students = new ArrayList<>(model.getFilteredStudentList());
+        }
+
+        return new CommandResult(String.format(MESSAGE_EXPORTING, students.size(), exportFilePath),
+                progressListener -> export(students, progressListener));
+    }
+
+    /**
+     * Returns true if {@code filePath} is the data file at {@code studentRecordFilePath} or its journal, which are
+     * written by the student record's own saves while the export is in progress.
+     */
+    private static boolean isDataFile(Path filePath, Path studentRecordFilePath) {
+        Path exportFile = filePath.toAbsolutePath().normalize();
+        Path dataFile = studentRecordFilePath.toAbsolutePath().normalize();
+        return exportFile.equals(dataFile)
+                || exportFile.equals(JournaledStudentRecordStorage.getJournalFilePath(dataFile));
+    }
+
+    private String export(List<Student> students, Consumer<String> progressListener) throws CommandException {
+        long startTime = System.nanoTime();
+        IntConsumer studentsWrittenListener = studentsWritten -> {
+            if (studentsWritten % PROGRESS_INTERVAL == 0 && studentsWritten < students.size()) {
+                progressListener.accept(String.format(MESSAGE_PROGRESS, studentsWritten, students.size(),
+                        exportFilePath));
+            }
+        };
+        try {
+            if (format == Format.CSV) {
+                writeCsv(students, studentsWrittenListener);
+            } else {
+                ObservableList<Student> studentList = FXCollections.unmodifiableObservableList(
+                        FXCollections.observableList(students));
+                new JsonStudentRecordStorage(exportFilePath).saveStudentRecord(() -> studentList, exportFilePath,
+                        studentsWrittenListener);
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, exportFilePath, ioe.getMessage()), ioe);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.info("Exported " + students.size() + " students to " + exportFilePath + " in " + elapsedMillis + " ms");
+        return String.format(MESSAGE_SUCCESS, students.size(), exportFilePath, elapsedMillis);
+    }
+
+    private void writeCsv(List<Student> students, IntConsumer studentsWrittenListener) throws IOException {
+        FileUtil.createParentDirsOfFile(exportFilePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(exportFilePath, StandardCharsets.UTF_8)) {
+            writer.write(CsvUtil.joinLine(StudentCsvParser.COLUMNS));
+            writer.newLine();
+            int studentsWritten = 0;
+            for (Student student : students) {
+                writer.write(CsvUtil.joinLine(toCsvFields(student)));
+                writer.newLine();
+                studentsWrittenListener.accept(++studentsWritten);
+            }
+        }
+    }
+
+    /**
+     * Returns the fields of {@code student} in the order of {@link StudentCsvParser#COLUMNS}.
+     */
+    private static List<String> toCsvFields(Student student) {
+        List<String> fields = new ArrayList<>(StudentCsvParser.COLUMNS.size());
+        fields.add(student.getStudentName().fullName);
+        fields.add(student.getId().value);
+        fields.add(student.getClassName().className);
+        fields.add(student.getParentName().fullName);
+        fields.add(student.getPhone().value);
+        fields.add(student.getEmail().value);
+        for (int examIndex = 0; examIndex < Exam.NUMBER_OF_EXAMS; examIndex++) {
+            String examName = Exam.getExamName(examIndex);
+            fields.add(student.hasExam(examName) ? String.valueOf(student.getExamScore(examName)) : "");
+        }
+        return fields;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && exportFilePath.equals(((ExportCommand) other).exportFilePath)
+                && format == ((ExportCommand) other).format
+                && className.equals(((ExportCommand) other).className)); // state check
+    }
+}
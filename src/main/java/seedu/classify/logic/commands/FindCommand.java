@@ -2,11 +2,15 @@ package seedu.classify.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.classify.commons.core.Messages;
 import seedu.classify.logic.parser.CliSyntax;
 import seedu.classify.model.Model;
+import seedu.classify.model.student.NameContainsKeywordsPredicate;
 import seedu.classify.model.student.Student;
 
 /**
@@ -33,7 +37,19 @@ public class FindCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.storePredicate(predicate);
-        model.updateFilteredStudentList(predicate);
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            // the students in the student record are looked up in its name index, instead of splitting every name.
+            // Students added or edited after the search are tested by the predicate, so the filter stays the same.
+            Set<Student> foundStudents = model.getStudentsWithAnyNameWord(
+                    ((NameContainsKeywordsPredicate) predicate).getKeywords());
+            Set<Student> searchedStudents = Collections.newSetFromMap(new IdentityHashMap<>());
+            searchedStudents.addAll(model.getStudentRecord().getStudentList());
+            model.updateFilteredStudentList(student -> searchedStudents.contains(student)
+                    ? foundStudents.contains(student)
+                    : predicate.test(student));
+        } else {
+            model.updateFilteredStudentList(predicate);
+        }
         int numberOfStudents = model.getFilteredStudentList().size();
         if (numberOfStudents == 1) {
             return new CommandResult(
@@ -0,0 +1,312 @@
+package seedu.classify.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.commons.core.Messages;
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.commons.util.CsvUtil;
+import seedu.classify.logic.commands.EditCommand.EditStudentDescriptor;
+import seedu.classify.logic.commands.exceptions.CommandException;
+import seedu.classify.logic.parser.StudentCsvParser;
+import seedu.classify.model.Model;
+import seedu.classify.model.StudentRecord;
+import seedu.classify.model.student.Email;
+import seedu.classify.model.student.Id;
+import seedu.classify.model.student.Name;
+import seedu.classify.model.student.Phone;
+import seedu.classify.model.student.Student;
+
+/**
+ * Imports students and their exam scores from a CSV file, as a single change to the student record.
+ * Each row either adds a new student or updates the existing student with the same ID. Rows that cannot be imported
+ * are written to a reject file next to the CSV file, together with the reason, instead of stopping the import.
+ * The file is read in batches of rows, so only one batch and the rejected rows are held at a time.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports students and exam scores from a CSV file."
+            + " The first row names the columns, which can be any of " + String.join(", ", StudentCsvParser.COLUMNS)
+            + ", and must include " + StudentCsvParser.COLUMN_ID + ". Rows with the ID of an existing student update"
+            + " that student; other rows add a new student, and must have a " + StudentCsvParser.COLUMN_NAME
+            + " and a " + StudentCsvParser.COLUMN_CLASS + ". Rows that cannot be imported are written to "
+            + "FILE_NAME" + ImportCommand.REJECT_FILE_SUFFIX + ".\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/scores.csv";
+
+    public static final String REJECT_FILE_SUFFIX = ".rejected.csv";
+    public static final String REJECT_COLUMN_ERROR = "Error";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d rows from %2$s in %3$d ms: %4$d students added,"
+            + " %5$d students updated.";
+    public static final String MESSAGE_REJECTED_ROWS = "\n%1$d rows could not be imported, and were written to %2$s";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "CSV file %1$s has no header.";
+    public static final String MESSAGE_INVALID_HEADER = "CSV file %1$s has an invalid header: %2$s";
+    public static final String MESSAGE_MISSING_NAME_OR_CLASS = "A new student should have a "
+            + StudentCsvParser.COLUMN_NAME + " and a " + StudentCsvParser.COLUMN_CLASS + ".";
+    public static final String MESSAGE_READ_ERROR = "Could not read CSV file %1$s: %2$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write reject file %1$s, so nothing was imported: %2$s";
+    public static final String MESSAGE_DELETE_ERROR = "Could not delete the reject file %1$s of an earlier import, so"
+            + " nothing was imported: %2$s";
+
+    /** Number of rows that are parsed and joined together, which bounds the rows of the file held at once. */
+    private static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path csvFilePath;
+
+    /**
+     * Creates an ImportCommand to import the students in the CSV file at {@code csvFilePath}.
+     */
+    public ImportCommand(Path csvFilePath) {
+        requireNonNull(csvFilePath);
+        this.csvFilePath = csvFilePath;
+    }
+
+    /**
+     * Returns the path of the reject file for the CSV file at {@code csvFilePath}.
+     */
+    public static Path getRejectFilePath(Path csvFilePath) {
+        String fileName = csvFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return csvFilePath.resolveSibling(baseName + REJECT_FILE_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+
+        ImportJoin join = new ImportJoin(model.getStudentRecord().getStudentList());
+        List<String> rejectedRows = new ArrayList<>();
+        String header = null;
+        StudentCsvParser csvParser = null;
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        List<Integer> batchLineNumbers = new ArrayList<>(BATCH_SIZE);
+        int rowCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(csvFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (header == null) {
+                    header = line;
+                    csvParser = parseHeader(header);
+                    continue;
+                }
+                batch.add(line);
+                batchLineNumbers.add(lineNumber);
+                if (batch.size() == BATCH_SIZE) {
+                    importBatch(csvParser, batch, batchLineNumbers, join, rejectedRows);
+                    rowCount += batch.size();
+                    batch.clear();
+                    batchLineNumbers.clear();
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, csvFilePath, ioe.getMessage()), ioe);
+        }
+        if (header == null) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_FILE, csvFilePath));
+        }
+        importBatch(csvParser, batch, batchLineNumbers, join, rejectedRows);
+        rowCount += batch.size();
+
+        // The reject file is written before the model is changed, so that no rows are lost if it cannot be written.
+        // A reject file left by an earlier import of the same file is removed, as none of its rows are rejected now.
+        Path rejectFilePath = getRejectFilePath(csvFilePath);
+        if (!rejectedRows.isEmpty()) {
+            writeRejectFile(rejectFilePath, header, rejectedRows);
+        } else {
+            deleteRejectFile(rejectFilePath);
+        }
+
+        // Publishes all imported students to the displayed student list at once
+        if (join.hasChanges()) {
+            StudentRecord importedRecord = new StudentRecord();
+            importedRecord.loadStudents(join.getStudents());
+            model.setStudentRecord(importedRecord);
+        }
+        model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
+        model.storePredicate(Model.PREDICATE_SHOW_ALL_STUDENTS);
+        long elapsedNanos = System.nanoTime() - startTime;
+        logger.info("Imported " + (rowCount - rejectedRows.size()) + " rows from " + csvFilePath + ", "
+                + rejectedRows.size() + " rejected");
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, rowCount - rejectedRows.size(),
+                csvFilePath, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), join.getAddedCount(),
+                join.getUpdatedCount()));
+        if (!rejectedRows.isEmpty()) {
+            feedback.append(String.format(MESSAGE_REJECTED_ROWS, rejectedRows.size(), rejectFilePath));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    private StudentCsvParser parseHeader(String header) throws CommandException {
+        try {
+            return new StudentCsvParser(CsvUtil.splitLine(header));
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_HEADER, csvFilePath, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses the {@code rows} read from the given lines of the CSV file and joins them to the students in file order.
+     * The rows that cannot be imported are added to {@code rejectedRows}, together with the reason.
+     */
+    private static void importBatch(StudentCsvParser csvParser, List<String> rows, List<Integer> lineNumbers,
+            ImportJoin join, List<String> rejectedRows) {
+        // Rows do not depend on each other until they are joined to the students, so they are validated in parallel
+        EditStudentDescriptor[] descriptors = new EditStudentDescriptor[rows.size()];
+        String[] errors = new String[rows.size()];
+        IntStream.range(0, rows.size()).parallel().forEach(i -> {
+            try {
+                descriptors[i] = csvParser.parseRow(CsvUtil.splitLine(rows.get(i)));
+            } catch (IllegalValueException e) {
+                errors[i] = e.getMessage();
+            }
+        });
+
+        for (int i = 0; i < rows.size(); i++) {
+            String error = errors[i] != null ? errors[i] : join.apply(descriptors[i]).orElse(null);
+            if (error != null) {
+                rejectedRows.add(toRejectedRow(rows.get(i),
+                        String.format(MESSAGE_LINE_ERROR, lineNumbers.get(i), error)));
+            }
+        }
+    }
+
+    private static String toRejectedRow(String row, String error) {
+        return row + CsvUtil.SEPARATOR + CsvUtil.joinLine(Collections.singletonList(error));
+    }
+
+    private static void writeRejectFile(Path rejectFilePath, String header, List<String> rejectedRows)
+            throws CommandException {
+        try (BufferedWriter writer = Files.newBufferedWriter(rejectFilePath, StandardCharsets.UTF_8)) {
+            writer.write(header + CsvUtil.SEPARATOR + REJECT_COLUMN_ERROR);
+            writer.newLine();
+            for (String rejectedRow : rejectedRows) {
+                writer.write(rejectedRow);
+                writer.newLine();
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, rejectFilePath, ioe.getMessage()), ioe);
+        }
+    }
+
+    private static void deleteRejectFile(Path rejectFilePath) throws CommandException {
+        try {
+            Files.deleteIfExists(rejectFilePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_DELETE_ERROR, rejectFilePath, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && csvFilePath.equals(((ImportCommand) other).csvFilePath)); // state check
+    }
+
+    /**
+     * Joins imported rows to the students they add or update, by their IDs.
+     * The students are hashed by ID once, so each row is joined in constant time instead of searching the list.
+     */
+    private static class ImportJoin {
+        private final Map<Id, Student> studentsById = new LinkedHashMap<>();
+        private final Map<Name, Id> idsByName = new HashMap<>();
+        private final Set<Id> addedIds = new HashSet<>();
+        private final Set<Id> updatedIds = new HashSet<>();
+
+        ImportJoin(List<Student> students) {
+            for (Student student : students) {
+                studentsById.put(student.getId(), student);
+                idsByName.put(student.getStudentName(), student.getId());
+            }
+        }
+
+        /**
+         * Adds or updates the student with the ID in {@code descriptor}.
+         *
+         * @return the reason the row cannot be imported, if it cannot.
+         */
+        Optional<String> apply(EditStudentDescriptor descriptor) {
+            Id id = descriptor.getId().get();
+            Student existingStudent = studentsById.get(id);
+            Student importedStudent;
+            if (existingStudent != null) {
+                importedStudent = EditCommand.createEditedStudent(existingStudent, descriptor);
+            } else if (!descriptor.getStudentName().isPresent()) {
+                // Score rows only name the student by ID
+                return Optional.of(Messages.MESSAGE_INVALID_STUDENT_ID);
+            } else if (!descriptor.getClassName().isPresent()) {
+                return Optional.of(MESSAGE_MISSING_NAME_OR_CLASS);
+            } else {
+                importedStudent = new Student(descriptor.getStudentName().get(), id, descriptor.getClassName().get(),
+                        descriptor.getParentName().orElse(new Name()), descriptor.getPhone().orElse(new Phone()),
+                        descriptor.getEmail().orElse(new Email()), descriptor.getExams().orElse(new HashSet<>()));
+            }
+
+            Id idWithSameName = idsByName.get(importedStudent.getStudentName());
+            if (idWithSameName != null && !idWithSameName.equals(id)) {
+                return Optional.of(existingStudent != null
+                        ? EditCommand.MESSAGE_DUPLICATE_STUDENT
+                        : AddStudentCommand.MESSAGE_DUPLICATE_PERSON);
+            }
+
+            if (existingStudent != null) {
+                idsByName.remove(existingStudent.getStudentName());
+                if (!addedIds.contains(id)) {
+                    updatedIds.add(id);
+                }
+            } else {
+                addedIds.add(id);
+            }
+            studentsById.put(id, importedStudent);
+            idsByName.put(importedStudent.getStudentName(), id);
+            return Optional.empty();
+        }
+
+        boolean hasChanges() {
+            return !addedIds.isEmpty() || !updatedIds.isEmpty();
+        }
+
+        List<Student> getStudents() {
+            return new ArrayList<>(studentsById.values());
+        }
+
+        int getAddedCount() {
+            return addedIds.size();
+        }
+
+        int getUpdatedCount() {
+            return updatedIds.size();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.classify.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.classify.commons.core.Messages;
+import seedu.classify.logic.commands.exceptions.CommandException;
+import seedu.classify.logic.parser.CliSyntax;
+import seedu.classify.model.Model;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.Student;
+
+/**
+ * Shows the students with the highest or lowest scores for a particular exam, either in a particular class or in the
+ * whole student record. The displayed student list is not changed.
+ */
+public class RankCommand extends Command {
+
+    public static final String COMMAND_WORD = "rank";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the given number of students with the highest"
+            + " (top) or lowest (bottom) scores for the specified exam, in the specified class or, if no class is"
+            + " given, among all students.\n"
+            + "Parameters: " + CliSyntax.PREFIX_EXAM + "EXAM [" + CliSyntax.PREFIX_CLASS + "CLASS] "
+            + CliSyntax.PREFIX_TOP + "NUMBER or " + CliSyntax.PREFIX_BOTTOM + "NUMBER\n"
+            + "Example: " + COMMAND_WORD + " " + CliSyntax.PREFIX_EXAM + "SA1 " + CliSyntax.PREFIX_CLASS + "4A1 "
+            + CliSyntax.PREFIX_BOTTOM + "10";
+
+    public static final String MESSAGE_HIGHEST_SCORERS = "Highest scores for %1$s%2$s:";
+    public static final String MESSAGE_LOWEST_SCORERS = "Lowest scores for %1$s%2$s:";
+    public static final String MESSAGE_IN_CLASS = " in class %1$s";
+    public static final String MESSAGE_RANKED_STUDENT = "\n%1$d. %2$s (%3$d)";
+    public static final String MESSAGE_NO_SCORES = "No student%2$s has a grade for %1$s.";
+
+    private final String exam;
+    private final Optional<Class> className;
+    private final int count;
+    private final boolean isHighest;
+
+    /**
+     * Creates a RankCommand to show the {@code count} students with the highest scores for {@code exam} if
+     * {@code isHighest} is true, or the lowest scores otherwise, considering only {@code className} if present.
+     */
+    public RankCommand(String exam, Optional<Class> className, int count, boolean isHighest) {
+        requireNonNull(exam);
+        requireNonNull(className);
+        this.exam = exam;
+        this.className = className;
+        this.count = count;
+        this.isHighest = isHighest;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (className.isPresent() && !model.hasClass(className.get())) {
+            throw new CommandException(Messages.MESSAGE_STUDENT_CLASS_NOT_FOUND);
+        }
+
+        List<Student> ranking = isHighest
+                ? model.getHighestScorers(exam, className, count)
+                : model.getLowestScorers(exam, className, count);
+        String scope = className.map(name -> String.format(MESSAGE_IN_CLASS, name)).orElse("");
+        if (ranking.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SCORES, exam, scope));
+        }
+
+        StringBuilder result = new StringBuilder(
+                String.format(isHighest ? MESSAGE_HIGHEST_SCORERS : MESSAGE_LOWEST_SCORERS, exam, scope));
+        for (int i = 0; i < ranking.size(); i++) {
+            Student student = ranking.get(i);
+            result.append(String.format(MESSAGE_RANKED_STUDENT, i + 1, student.getStudentName(),
+                    student.getExamScore(exam)));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RankCommand // instanceof handles nulls
+                && exam.equals(((RankCommand) other).exam)
+                && className.equals(((RankCommand) other).className)
+                && count == ((RankCommand) other).count
+                && isHighest == ((RankCommand) other).isHighest); // state check
+    }
+}
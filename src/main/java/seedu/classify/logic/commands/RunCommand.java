@@ -0,0 +1,179 @@
+package seedu.classify.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.logic.commands.exceptions.CommandException;
+import seedu.classify.logic.parser.CliSyntax;
+import seedu.classify.logic.parser.StudentRecordParser;
+import seedu.classify.logic.parser.exceptions.ParseException;
+import seedu.classify.model.Model;
+import seedu.classify.model.ModelManager;
+import seedu.classify.model.student.Student;
+
+/**
+ * Runs the commands in a script file, one command per line, as a single change to the student record.
+ * The commands are run against a copy of the model, which replaces the student record only once all of them have
+ * been run, so the displayed student list is updated and the student record is saved once for the whole script.
+ * The filter, order and view of the displayed student list left by the script are then shown. Commands that only
+ * act on the application window, such as exit and help, cannot be run from a script.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one command per"
+            + " line. Blank lines and lines starting with " + RunCommand.COMMENT_MARKER + " are skipped. If a command"
+            + " fails, none of the changes made by the script are kept, unless the script is to continue on errors, in"
+            + " which case only the failed commands are skipped.\n"
+            + "Parameters: FILE_PATH [" + CliSyntax.PREFIX_ON_ERROR + "STOP or CONTINUE]\n"
+            + "Example: " + COMMAND_WORD + " scripts/addStudents.txt " + CliSyntax.PREFIX_ON_ERROR + "continue";
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s in %3$d ms (%4$d commands per second).";
+    public static final String MESSAGE_FAILED_COMMANDS = "\n%1$d commands failed and were skipped:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_SCRIPT_STOPPED = "\nThe script was stopped, and none of its changes were kept.";
+    public static final String MESSAGE_READ_ERROR = "Could not read script file %1$s: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts.";
+    public static final String MESSAGE_WINDOW_COMMAND = "Scripts cannot run the %1$s command.";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptFilePath;
+    private final boolean isContinueOnError;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code scriptFilePath}. If {@code isContinueOnError}
+     * is true, failed commands are skipped; otherwise the first failed command undoes the whole script.
+     */
+    public RunCommand(Path scriptFilePath, boolean isContinueOnError) {
+        requireNonNull(scriptFilePath);
+        this.scriptFilePath = scriptFilePath;
+        this.isContinueOnError = isContinueOnError;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // The script works on a copy, so that a failed script leaves the model untouched
+        Model scriptModel = new ModelManager(model.getStudentRecord(), model.getUserPrefs());
+        scriptModel.updateFilteredStudentList(model.getPrevPredicate());
+        scriptModel.storePredicate(model.getPrevPredicate());
+        copyDisplayOrderAndView(model, scriptModel);
+
+        StudentRecordParser parser = new StudentRecordParser();
+        List<String> lineErrors = new ArrayList<>();
+        List<BackgroundTask> backgroundTasks = new ArrayList<>();
+        int commandCount = 0;
+        long startTime = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(scriptFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    runScriptCommand(parser, commandText, scriptModel).getBackgroundTask()
+                            .ifPresent(backgroundTasks::add);
+                } catch (CommandException | ParseException e) {
+                    String lineError = String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage());
+                    if (!isContinueOnError) {
+                        throw new CommandException(lineError + MESSAGE_SCRIPT_STOPPED, e);
+                    }
+                    lineErrors.add(lineError);
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptFilePath, ioe.getMessage()), ioe);
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        // Publishes all changes of the script to the displayed student list at once
+        if (!scriptModel.getStudentRecord().equals(model.getStudentRecord())) {
+            model.setStudentRecord(scriptModel.getStudentRecord());
+        }
+        model.updateFilteredStudentList(scriptModel.getPrevPredicate());
+        model.storePredicate(scriptModel.getPrevPredicate());
+        copyDisplayOrderAndView(scriptModel, model);
+        logger.info("Ran " + commandCount + " commands from " + scriptFilePath + ", " + lineErrors.size()
+                + " failed");
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, commandCount, scriptFilePath,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                commandCount * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos)));
+        if (!lineErrors.isEmpty()) {
+            feedback.append(String.format(MESSAGE_FAILED_COMMANDS, lineErrors.size()));
+            lineErrors.forEach(lineError -> feedback.append('\n').append(lineError));
+        }
+        if (backgroundTasks.isEmpty()) {
+            return new CommandResult(feedback.toString());
+        }
+        // The background tasks of the script, such as exports, run after the script, in the order they were added
+        return new CommandResult(feedback.toString(), progressListener -> runInOrder(backgroundTasks,
+                progressListener));
+    }
+
+    private static CommandResult runScriptCommand(StudentRecordParser parser, String commandText, Model scriptModel)
+            throws CommandException, ParseException {
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        if (command instanceof ExitCommand) {
+            throw new CommandException(String.format(MESSAGE_WINDOW_COMMAND, ExitCommand.COMMAND_WORD));
+        }
+        if (command instanceof HelpCommand) {
+            throw new CommandException(String.format(MESSAGE_WINDOW_COMMAND, HelpCommand.COMMAND_WORD));
+        }
+        return command.execute(scriptModel);
+    }
+
+    /**
+     * Orders the filtered student list of {@code to} as that of {@code from} is ordered, and shows the same
+     * information of each student. The filter of {@code to} should already have been updated, as that restores the
+     * order of the student record.
+     */
+    private static void copyDisplayOrderAndView(Model from, Model to) {
+        Comparator<? super Student> comparator = from.getFilteredStudents().getComparator();
+        if (comparator != null) {
+            to.sortFilteredStudentList(comparator::compare);
+        }
+        if (from.isStudentListInfoConcise() != to.isStudentListInfoConcise()) {
+            to.toggleStudentListInfoConcise();
+        }
+    }
+
+    private static String runInOrder(List<BackgroundTask> backgroundTasks, Consumer<String> progressListener)
+            throws CommandException {
+        List<String> feedback = new ArrayList<>();
+        for (BackgroundTask backgroundTask : backgroundTasks) {
+            feedback.add(backgroundTask.run(progressListener));
+        }
+        return String.join("\n", feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptFilePath.equals(((RunCommand) other).scriptFilePath)
+                && isContinueOnError == ((RunCommand) other).isContinueOnError); // state check
+    }
+}
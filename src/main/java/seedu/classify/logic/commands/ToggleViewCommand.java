@@ -1,9 +1,6 @@
 package seedu.classify.logic.commands;
 
-import java.util.function.Predicate;
-
 import seedu.classify.model.Model;
-import seedu.classify.model.student.Student;
 
 /**
  * Toggles application between showing and hiding students' parent details
@@ -18,13 +15,6 @@ public class ToggleViewCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         model.toggleStudentListInfoConcise();
-        model.updateFilteredStudentList(x -> false);
-
-        // FilteredStudyList should be empty
-        assert model.getFilteredStudentList().size() == 0;
-
-        Predicate<Student> prevPredicate = model.getPrevPredicate();
-        model.updateFilteredStudentList(prevPredicate);
 
         if (model.isStudentListInfoConcise()) {
             return new CommandResult(MESSAGE_SUCCESS_HIDE);
@@ -28,7 +28,7 @@ public class ViewClassCommand extends Command {
         requireNonNull(model);
         model.updateFilteredStudentList(predicate);
         model.storePredicate(predicate);
-        int numberOfStudents = model.getFilteredStudentList().size();
+        int numberOfStudents = model.getStudentsInClass(predicate.getClassName()).size();
         if (numberOfStudents == 1) {
             return new CommandResult(
                     String.format(Messages.MESSAGE_SINGLE_PERSON_LISTED_IN_CLASS, numberOfStudents));
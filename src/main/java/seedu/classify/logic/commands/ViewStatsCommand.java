@@ -2,70 +2,117 @@ package seedu.classify.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.function.Predicate;
 
 import seedu.classify.commons.core.Messages;
 import seedu.classify.logic.commands.exceptions.CommandException;
 import seedu.classify.logic.parser.CliSyntax;
 import seedu.classify.model.Model;
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.exam.ExamStatistics;
 import seedu.classify.model.student.Class;
 import seedu.classify.model.student.ClassPredicate;
 import seedu.classify.model.student.GradeComparator;
 import seedu.classify.model.student.GradeLessThanMeanPredicate;
 import seedu.classify.model.student.Student;
-import seedu.classify.model.student.exceptions.ExamNotFoundException;
 
 /**
- * Calculates the mean of a particular exam from a particular class, using the given class and given exam. Returns the
- * list of students in the class, sorted by the grade of the particular exam, and, if specified, shows only the
- * students whose grade falls below the calculated mean.
+ * Calculates the mean, spread and distribution of a particular exam from a particular class, using the given class
+ * and given exam.
+ * Returns the list of students in the class, sorted by the grade of the particular exam, and, if specified, shows only
+ * the students whose grade falls below the calculated mean. The order of the student record itself is not changed.
  */
 public class ViewStatsCommand extends Command {
 
     public static final String COMMAND_WORD = "viewStats";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Calculates the mean score of the specified exam in the"
             + " specified class and displays the list of students in the class in ascending order of their exam score."
-            + " If filter tag is on, only students whose grade falls below the mean will be displayed.\n"
-            + "Parameters: " + CliSyntax.PREFIX_CLASS + "CLASS " + CliSyntax.PREFIX_EXAM + "EXAM filter/FILTER\n"
-            + "Example: " + COMMAND_WORD + " class/4A1 exam/SA1 filter/on";
+            + " If filter tag is on, only students whose grade falls below the mean will be displayed."
+            + " The median, quartiles and score distribution are also shown, as well as the given percentile, if any.\n"
+            + "Parameters: " + CliSyntax.PREFIX_CLASS + "CLASS " + CliSyntax.PREFIX_EXAM + "EXAM filter/FILTER "
+            + "[" + CliSyntax.PREFIX_PERCENTILE + "PERCENTILE]\n"
+            + "Example: " + COMMAND_WORD + " class/4A1 exam/SA1 filter/on " + CliSyntax.PREFIX_PERCENTILE + "90";
+
+    /** Width of the score bands shown in the distribution. */
+    private static final int DISTRIBUTION_BAND_WIDTH = 20;
 
     private final Class className;
     private final String exam;
     private final boolean isFilterOn;
+    private final Optional<Integer> percentile;
 
     /**
      * Creates a ViewStatsCommand to view the mean of a particular exam of a particular class,
      * using the specified fields.
      */
     public ViewStatsCommand(Class className, String exam, boolean isFilterOn) {
+        this(className, exam, isFilterOn, Optional.empty());
+    }
+
+    /**
+     * Creates a ViewStatsCommand that also reports the given {@code percentile} of the exam scores, if present.
+     */
+    public ViewStatsCommand(Class className, String exam, boolean isFilterOn, Optional<Integer> percentile) {
+        requireNonNull(percentile);
         this.className = className;
         this.exam = exam;
         this.isFilterOn = isFilterOn;
+        this.percentile = percentile;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (!model.hasClass(className)) {
+            throw new CommandException(Messages.MESSAGE_STUDENT_CLASS_NOT_FOUND);
+        }
+
         //execute a ViewClassCommand to get the class of interest
         ViewClassCommand viewClassCommand = new ViewClassCommand(new ClassPredicate(className));
         viewClassCommand.execute(model);
-        if (model.getFilteredStudentList().size() == 0) {
-            throw new CommandException(Messages.MESSAGE_STUDENT_CLASS_NOT_FOUND);
-        } else {
-            try {
-                model.sortStudentRecord(new GradeComparator(exam, className));
-                double mean = model.calculateExamMean(exam);
-                if (isFilterOn) {
-                    Predicate<Student> predicate = new GradeLessThanMeanPredicate(className, mean, exam);
-                    model.updateFilteredStudentList(predicate);
-                    model.storePredicate(predicate);
-                }
-                return new CommandResult(String.format(Messages.MESSAGE_CLASS_SORTED_BY_GRADE, className)
-                        + String.format(Messages.MESSAGE_DISPLAY_MEAN, exam, className, mean));
-            } catch (ExamNotFoundException e) {
-                return new CommandResult(e.getMessage() + "\nMean cannot be calculated.");
-            }
+
+        ExamStatistics statistics = model.getExamStatistics(className, exam);
+        if (!statistics.hasScores()) {
+            return new CommandResult(String.format(Messages.MESSAGE_NO_GRADES, exam, className));
+        }
+
+        double mean = statistics.getMean();
+        if (isFilterOn) {
+            Predicate<Student> predicate = new GradeLessThanMeanPredicate(className, mean, exam);
+            model.updateFilteredStudentList(predicate);
+            model.storePredicate(predicate);
+        }
+        // only the displayed students of the class are sorted; the order of the student record is left as is
+        model.sortFilteredStudentList(new GradeComparator(exam, className, model.getStudentsInClass(className)));
+        return new CommandResult(String.format(Messages.MESSAGE_CLASS_SORTED_BY_GRADE, className)
+                + String.format(Messages.MESSAGE_DISPLAY_MEAN, exam, className, mean)
+                + String.format(Messages.MESSAGE_DISPLAY_SPREAD, statistics.getStandardDeviation(),
+                        statistics.getLowestScore(), statistics.getHighestScore())
+                + String.format(Messages.MESSAGE_DISPLAY_QUARTILES, statistics.getMedian(),
+                        statistics.getLowerQuartile(), statistics.getUpperQuartile())
+                + percentile.map(p -> String.format(Messages.MESSAGE_DISPLAY_PERCENTILE, p,
+                        statistics.getPercentile(p))).orElse("")
+                + String.format(Messages.MESSAGE_DISPLAY_DISTRIBUTION, formatDistribution(statistics))
+                + (statistics.getMissingCount() == 0 ? ""
+                        : String.format(Messages.MESSAGE_MISSING_GRADES, statistics.getMissingCount(), exam)));
+    }
+
+    /**
+     * Formats the number of scores in each band, e.g. {@code 0-19: 0, 20-39: 1, ..., 80-100: 3}.
+     */
+    private static String formatDistribution(ExamStatistics statistics) {
+        int[] bands = statistics.getDistribution(DISTRIBUTION_BAND_WIDTH);
+        StringJoiner distribution = new StringJoiner(", ");
+        for (int band = 0; band < bands.length; band++) {
+            int lowestScoreInBand = Exam.MIN_SCORE + band * DISTRIBUTION_BAND_WIDTH;
+            int highestScoreInBand = band == bands.length - 1
+                    ? Exam.MAX_SCORE
+                    : lowestScoreInBand + DISTRIBUTION_BAND_WIDTH - 1;
+            distribution.add(lowestScoreInBand + "-" + highestScoreInBand + ": " + bands[band]);
         }
+        return distribution.toString();
     }
 
     @Override
@@ -74,6 +121,7 @@ public class ViewStatsCommand extends Command {
                 || (other instanceof ViewStatsCommand // instanceof handles nulls
                 && className.equals(((ViewStatsCommand) other).className)
                 && exam.equals(((ViewStatsCommand) other).exam)
-                && isFilterOn == ((ViewStatsCommand) other).isFilterOn); // state check
+                && isFilterOn == ((ViewStatsCommand) other).isFilterOn
+                && percentile.equals(((ViewStatsCommand) other).percentile)); // state check
     }
 }
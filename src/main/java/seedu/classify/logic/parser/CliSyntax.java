@@ -15,5 +15,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_STUDENT_NAME = new Prefix("nm/");
     public static final Prefix PREFIX_EXAM = new Prefix("exam/");
     public static final Prefix PREFIX_FILTER = new Prefix("filter/");
+    public static final Prefix PREFIX_PERCENTILE = new Prefix("percentile/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
+    public static final Prefix PREFIX_BOTTOM = new Prefix("bottom/");
+    public static final Prefix PREFIX_ON_ERROR = new Prefix("onerror/");
 
 }
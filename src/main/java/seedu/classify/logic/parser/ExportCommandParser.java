@@ -0,0 +1,32 @@
+package seedu.classify.logic.parser;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.classify.commons.core.Messages;
+import seedu.classify.logic.commands.ExportCommand;
+import seedu.classify.logic.parser.exceptions.ParseException;
+import seedu.classify.model.student.Class;
+
+/**
+ * Parses input arguments and creates an ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_CLASS);
+        if (argMultiMap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path exportFilePath = ParserUtil.parseFilePath(argMultiMap.getPreamble());
+        ExportCommand.Format format = ParserUtil.parseExportFormat(exportFilePath);
+        Optional<Class> className = Optional.empty();
+        if (argMultiMap.getValue(CliSyntax.PREFIX_CLASS).isPresent()) {
+            className = Optional.of(ParserUtil.parseClass(argMultiMap.getValue(CliSyntax.PREFIX_CLASS).get()));
+        }
+        return new ExportCommand(exportFilePath, format, className);
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.classify.logic.parser;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.classify.commons.core.Messages;
+import seedu.classify.commons.util.StringUtil;
 import seedu.classify.logic.commands.FindCommand;
 import seedu.classify.logic.parser.exceptions.ParseException;
 import seedu.classify.model.student.IdPredicate;
@@ -36,8 +38,13 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         if (argMultiMap.getValue(CliSyntax.PREFIX_STUDENT_NAME).isPresent()) {
-            String[] nameKeywords = argMultiMap.getValue(CliSyntax.PREFIX_STUDENT_NAME).get().split("\\s+");
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            List<String> nameKeywords = StringUtil.splitWords(
+                    argMultiMap.getValue(CliSyntax.PREFIX_STUDENT_NAME).get());
+            if (nameKeywords.isEmpty()) {
+                throw new ParseException(
+                        String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords));
         } else if (argMultiMap.getValue(CliSyntax.PREFIX_ID).isPresent()) {
             return new FindCommand(
                     new IdPredicate(ParserUtil.parseId(argMultiMap.getValue(CliSyntax.PREFIX_ID).get())));
@@ -47,4 +54,19 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     }
 
+    /**
+     * Returns the name keywords in {@code args} if they are the arguments of a find command by name, even one that is
+     * still being typed, or an empty {@code Optional} otherwise.
+     */
+    public static Optional<List<String>> parseNameKeywords(String args) {
+        ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_STUDENT_NAME,
+                CliSyntax.PREFIX_ID);
+        if (!argMultiMap.getPreamble().isEmpty() || argMultiMap.getValue(CliSyntax.PREFIX_ID).isPresent()) {
+            return Optional.empty();
+        }
+        return argMultiMap.getValue(CliSyntax.PREFIX_STUDENT_NAME)
+                .map(StringUtil::splitWords)
+                .filter(keywords -> !keywords.isEmpty());
+    }
+
 }
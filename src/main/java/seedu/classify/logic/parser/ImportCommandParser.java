@@ -0,0 +1,25 @@
+package seedu.classify.logic.parser;
+
+import java.nio.file.Path;
+
+import seedu.classify.commons.core.Messages;
+import seedu.classify.logic.commands.ImportCommand;
+import seedu.classify.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates an ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path csvFilePath = ParserUtil.parseFilePath(trimmedArgs);
+        return new ImportCommand(csvFilePath);
+    }
+}
@@ -2,12 +2,16 @@ package seedu.classify.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.classify.commons.core.index.Index;
 import seedu.classify.commons.util.StringUtil;
+import seedu.classify.logic.commands.ExportCommand;
 import seedu.classify.logic.parser.exceptions.ParseException;
 import seedu.classify.model.exam.Exam;
 import seedu.classify.model.student.Class;
@@ -23,6 +27,11 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_FILTER = "Value for filter should either be 'on' or 'off'";
+    public static final String MESSAGE_INVALID_PERCENTILE = "Percentile should be a number between 0 to 100.";
+    public static final String MESSAGE_INVALID_RANK_SIZE = "Number of students should be a positive integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path should not be blank, and should be a valid path.";
+    public static final String MESSAGE_INVALID_ON_ERROR = "Value for onerror should either be 'stop' or 'continue'";
+    public static final String MESSAGE_INVALID_EXPORT_FORMAT = "File name should end in either .csv or .json";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -121,10 +130,10 @@ public class ParserUtil {
     public static Exam parseExam(String exam) throws ParseException {
         requireNonNull(exam);
         String trimmedExam = exam.trim();
-        if (!Exam.isValidFormat(trimmedExam)) {
+        String[] args = Exam.splitNameAndScore(trimmedExam);
+        if (args.length != 2) {
             throw new ParseException(Exam.MESSAGE_CONSTRAINTS);
         }
-        String[] args = trimmedExam.split("\\s+");
         String name = args[0].toUpperCase();
         String score = args[1];
         if (!Exam.isValidName(name)) {
@@ -133,7 +142,7 @@ public class ParserUtil {
         if (!Exam.isValidScore(score)) {
             throw new ParseException(Exam.MESSAGE_SCORE_CONSTRAINTS);
         }
-        return new Exam(trimmedExam);
+        return new Exam(name, Integer.parseInt(score));
     }
 
     /**
@@ -179,4 +188,92 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String percentile} into an integer between 0 and 100.
+     * Leading and trailing white spaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code percentile} is invalid.
+     */
+    public static int parsePercentile(String percentile) throws ParseException {
+        requireNonNull(percentile);
+        String trimmedPercentile = percentile.trim();
+        if (trimmedPercentile.length() > 3 || !StringUtil.isAsciiDigits(trimmedPercentile)
+                || Integer.parseInt(trimmedPercentile) > 100) {
+            throw new ParseException(MESSAGE_INVALID_PERCENTILE);
+        }
+        return Integer.parseInt(trimmedPercentile);
+    }
+
+    /**
+     * Parses a {@code String count} of students to rank into a positive integer.
+     * Leading and trailing white spaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not a positive integer.
+     */
+    public static int parseRankSize(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_RANK_SIZE);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}, relative to the current directory unless it is absolute.
+     * Leading and trailing white spaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is blank or is not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+    }
+
+    /**
+     * Parses a {@code String onError} into true if the remaining commands should still be run after a command
+     * fails, or false if they should not.
+     * Leading and trailing white spaces will be trimmed, and the value is case-insensitive.
+     *
+     * @throws ParseException if the given {@code onError} is invalid.
+     */
+    public static boolean parseOnError(String onError) throws ParseException {
+        requireNonNull(onError);
+        String trimmedOnError = onError.trim().toUpperCase();
+        if (trimmedOnError.equals("CONTINUE")) {
+            return true;
+        } else if (trimmedOnError.equals("STOP")) {
+            return false;
+        } else {
+            throw new ParseException(MESSAGE_INVALID_ON_ERROR);
+        }
+    }
+
+    /**
+     * Parses the extension of the file name in {@code filePath} into the {@code ExportCommand.Format} of the file.
+     * The extension is case-insensitive.
+     *
+     * @throws ParseException if the file name does not end in a known extension.
+     */
+    public static ExportCommand.Format parseExportFormat(Path filePath) throws ParseException {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        String lowerCaseFileName = fileName == null ? "" : fileName.toString().toLowerCase();
+        if (lowerCaseFileName.endsWith(".csv")) {
+            return ExportCommand.Format.CSV;
+        } else if (lowerCaseFileName.endsWith(".json")) {
+            return ExportCommand.Format.JSON;
+        } else {
+            throw new ParseException(MESSAGE_INVALID_EXPORT_FORMAT);
+        }
+    }
+
 }
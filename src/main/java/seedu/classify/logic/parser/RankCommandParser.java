@@ -0,0 +1,43 @@
+package seedu.classify.logic.parser;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.classify.commons.core.Messages;
+import seedu.classify.logic.commands.RankCommand;
+import seedu.classify.logic.parser.exceptions.ParseException;
+import seedu.classify.model.student.Class;
+
+/**
+ * Parses input arguments and creates a RankCommand object
+ */
+public class RankCommandParser implements Parser<RankCommand> {
+
+    @Override
+    public RankCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_EXAM,
+                CliSyntax.PREFIX_CLASS, CliSyntax.PREFIX_TOP, CliSyntax.PREFIX_BOTTOM);
+        boolean isTopPresent = argMultiMap.getValue(CliSyntax.PREFIX_TOP).isPresent();
+        boolean isBottomPresent = argMultiMap.getValue(CliSyntax.PREFIX_BOTTOM).isPresent();
+        if (!arePrefixesPresent(argMultiMap, CliSyntax.PREFIX_EXAM) || isTopPresent == isBottomPresent
+                || !argMultiMap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE));
+        }
+
+        String exam = ParserUtil.parseExamQuery(argMultiMap.getValue(CliSyntax.PREFIX_EXAM).get());
+        Optional<Class> className = argMultiMap.getValue(CliSyntax.PREFIX_CLASS).isPresent()
+                ? Optional.of(ParserUtil.parseClass(argMultiMap.getValue(CliSyntax.PREFIX_CLASS).get()))
+                : Optional.empty();
+        int count = ParserUtil.parseRankSize(
+                argMultiMap.getValue(isTopPresent ? CliSyntax.PREFIX_TOP : CliSyntax.PREFIX_BOTTOM).get());
+        return new RankCommand(exam, className, count, isTopPresent);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
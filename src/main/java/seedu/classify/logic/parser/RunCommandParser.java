@@ -0,0 +1,26 @@
+package seedu.classify.logic.parser;
+
+import java.nio.file.Path;
+
+import seedu.classify.commons.core.Messages;
+import seedu.classify.logic.commands.RunCommand;
+import seedu.classify.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_ON_ERROR);
+        if (argMultiMap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        Path scriptFilePath = ParserUtil.parseFilePath(argMultiMap.getPreamble());
+        boolean isContinueOnError = argMultiMap.getValue(CliSyntax.PREFIX_ON_ERROR).isPresent()
+                && ParserUtil.parseOnError(argMultiMap.getValue(CliSyntax.PREFIX_ON_ERROR).get());
+        return new RunCommand(scriptFilePath, isContinueOnError);
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.classify.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.classify.logic.commands.EditCommand.EditStudentDescriptor;
+import seedu.classify.logic.parser.exceptions.ParseException;
+import seedu.classify.model.exam.Exam;
+
+/**
+ * Parses the rows of a CSV file of students into the student details they hold.
+ * The first row of the file is its header, which names the column of each field. Columns are matched to fields by
+ * their names in {@link #COLUMNS}, ignoring case, and columns with other names are ignored. Every file must have an
+ * {@code ID} column, as it identifies the student of each row.
+ */
+public class StudentCsvParser {
+
+    public static final String COLUMN_NAME = "Name";
+    public static final String COLUMN_ID = "ID";
+    public static final String COLUMN_CLASS = "Class";
+    public static final String COLUMN_PARENT_NAME = "Parent Name";
+    public static final String COLUMN_PHONE = "Parent Phone";
+    public static final String COLUMN_EMAIL = "Parent Email";
+
+    /** Names of all known columns, in the order they are exported. The exam columns come last. */
+    public static final List<String> COLUMNS;
+
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column %1$s appears more than once in the header.";
+    public static final String MESSAGE_MISSING_ID_COLUMN = "The header should have an " + COLUMN_ID + " column.";
+    public static final String MESSAGE_TOO_MANY_FIELDS = "Row has %1$d fields, but the header only has %2$d.";
+    public static final String MESSAGE_MISSING_ID = COLUMN_ID + " should not be empty.";
+
+    private static final int NAME_INDEX = 0;
+    private static final int ID_INDEX = 1;
+    private static final int CLASS_INDEX = 2;
+    private static final int PARENT_NAME_INDEX = 3;
+    private static final int PHONE_INDEX = 4;
+    private static final int EMAIL_INDEX = 5;
+    private static final int UNKNOWN_COLUMN = -1;
+
+    static {
+        List<String> columns = new ArrayList<>(Arrays.asList(COLUMN_NAME, COLUMN_ID, COLUMN_CLASS,
+                COLUMN_PARENT_NAME, COLUMN_PHONE, COLUMN_EMAIL));
+        for (int examIndex = 0; examIndex < Exam.NUMBER_OF_EXAMS; examIndex++) {
+            columns.add(Exam.getExamName(examIndex));
+        }
+        COLUMNS = Collections.unmodifiableList(columns);
+    }
+
+    // The index in COLUMNS of each column of the header, or UNKNOWN_COLUMN if it is not a known column
+    private final int[] columnIndexes;
+
+    /**
+     * Creates a {@code StudentCsvParser} for the rows of a file with the given {@code header}.
+     *
+     * @throws ParseException if a known column appears more than once, or there is no {@code ID} column.
+     */
+    public StudentCsvParser(List<String> header) throws ParseException {
+        requireNonNull(header);
+        columnIndexes = new int[header.size()];
+        Set<Integer> foundColumnIndexes = new HashSet<>();
+        for (int i = 0; i < header.size(); i++) {
+            columnIndexes[i] = findColumnIndex(header.get(i).trim());
+            if (columnIndexes[i] != UNKNOWN_COLUMN && !foundColumnIndexes.add(columnIndexes[i])) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, COLUMNS.get(columnIndexes[i])));
+            }
+        }
+        if (!foundColumnIndexes.contains(ID_INDEX)) {
+            throw new ParseException(MESSAGE_MISSING_ID_COLUMN);
+        }
+    }
+
+    private static int findColumnIndex(String columnName) {
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (COLUMNS.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return UNKNOWN_COLUMN;
+    }
+
+    /**
+     * Parses the {@code fields} of a row into the student details it holds. Empty fields are left out of the
+     * details, as are missing fields at the end of a row. The ID is always present in the details.
+     *
+     * @throws ParseException if the row has more fields than the header, if its ID is empty, or if any field is
+     *     invalid.
+     */
+    public EditStudentDescriptor parseRow(List<String> fields) throws ParseException {
+        requireNonNull(fields);
+        if (fields.size() > columnIndexes.length) {
+            throw new ParseException(String.format(MESSAGE_TOO_MANY_FIELDS, fields.size(), columnIndexes.length));
+        }
+
+        EditStudentDescriptor descriptor = new EditStudentDescriptor();
+        Set<Exam> exams = new HashSet<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i).trim();
+            if (columnIndexes[i] != UNKNOWN_COLUMN && !field.isEmpty()) {
+                parseField(columnIndexes[i], field, descriptor, exams);
+            }
+        }
+        if (!descriptor.getId().isPresent()) {
+            throw new ParseException(MESSAGE_MISSING_ID);
+        }
+        if (!exams.isEmpty()) {
+            descriptor.setExams(exams);
+        }
+        return descriptor;
+    }
+
+    private static void parseField(int columnIndex, String field, EditStudentDescriptor descriptor, Set<Exam> exams)
+            throws ParseException {
+        switch (columnIndex) {
+        case NAME_INDEX:
+            descriptor.setStudentName(ParserUtil.parseName(field));
+            break;
+        case ID_INDEX:
+            descriptor.setId(ParserUtil.parseId(field));
+            break;
+        case CLASS_INDEX:
+            descriptor.setClassName(ParserUtil.parseClass(field));
+            break;
+        case PARENT_NAME_INDEX:
+            descriptor.setParentName(ParserUtil.parseName(field));
+            break;
+        case PHONE_INDEX:
+            descriptor.setPhone(ParserUtil.parsePhone(field));
+            break;
+        case EMAIL_INDEX:
+            descriptor.setEmail(ParserUtil.parseEmail(field));
+            break;
+        default:
+            if (!Exam.isValidScore(field)) {
+                throw new ParseException(Exam.MESSAGE_SCORE_CONSTRAINTS);
+            }
+            exams.add(new Exam(COLUMNS.get(columnIndex), Integer.parseInt(field)));
+            break;
+        }
+    }
+}
@@ -10,8 +10,12 @@ import seedu.classify.logic.commands.Command;
 import seedu.classify.logic.commands.DeleteCommand;
 import seedu.classify.logic.commands.EditCommand;
 import seedu.classify.logic.commands.ExitCommand;
+import seedu.classify.logic.commands.ExportCommand;
 import seedu.classify.logic.commands.FindCommand;
 import seedu.classify.logic.commands.HelpCommand;
+import seedu.classify.logic.commands.ImportCommand;
+import seedu.classify.logic.commands.RankCommand;
+import seedu.classify.logic.commands.RunCommand;
 import seedu.classify.logic.commands.ToggleViewCommand;
 import seedu.classify.logic.commands.ViewAllCommand;
 import seedu.classify.logic.commands.ViewClassCommand;
@@ -78,6 +82,18 @@ public class StudentRecordParser {
         case ViewStatsCommand.COMMAND_WORD:
             return new ViewStatsCommandParser().parse(arguments);
 
+        case RankCommand.COMMAND_WORD:
+            return new RankCommandParser().parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
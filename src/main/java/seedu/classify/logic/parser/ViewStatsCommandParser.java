@@ -1,5 +1,6 @@
 package seedu.classify.logic.parser;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.classify.commons.core.Messages;
@@ -16,7 +17,7 @@ public class ViewStatsCommandParser implements Parser<ViewStatsCommand> {
     @Override
     public ViewStatsCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_CLASS,
-                CliSyntax.PREFIX_EXAM, CliSyntax.PREFIX_FILTER);
+                CliSyntax.PREFIX_EXAM, CliSyntax.PREFIX_FILTER, CliSyntax.PREFIX_PERCENTILE);
         if (!arePrefixesPresent(argMultiMap, CliSyntax.PREFIX_CLASS, CliSyntax.PREFIX_EXAM, CliSyntax.PREFIX_FILTER)) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ViewStatsCommand.MESSAGE_USAGE));
@@ -27,7 +28,10 @@ public class ViewStatsCommandParser implements Parser<ViewStatsCommand> {
             String exam = ParserUtil.parseExamQuery(argMultiMap.getValue(CliSyntax.PREFIX_EXAM).get());
             boolean isFilterOn = ParserUtil.parseFilter(
                     argMultiMap.getValue(CliSyntax.PREFIX_FILTER).get().toUpperCase());
-            return new ViewStatsCommand(className, exam, isFilterOn);
+            Optional<Integer> percentile = argMultiMap.getValue(CliSyntax.PREFIX_PERCENTILE).isPresent()
+                    ? Optional.of(ParserUtil.parsePercentile(argMultiMap.getValue(CliSyntax.PREFIX_PERCENTILE).get()))
+                    : Optional.empty();
+            return new ViewStatsCommand(className, exam, isFilterOn, percentile);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(pe.getMessage()));
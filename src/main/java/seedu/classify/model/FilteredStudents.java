@@ -1,10 +1,13 @@
 package seedu.classify.model;
 
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.classify.model.student.Student;
 
 /**
@@ -12,45 +15,58 @@ import seedu.classify.model.student.Student;
  */
 public class FilteredStudents {
     private final FilteredList<Student> filteredStudents;
+    // The filtered students in display order, which is the order of the student record unless a comparator is set
+    private final SortedList<Student> sortedStudents;
     // Only the student's name and ID should be displayed if true; all information should be shown otherwise
-    private boolean hasConciseInfo;
+    private final ReadOnlyBooleanWrapper conciseInfo = new ReadOnlyBooleanWrapper(false);
 
     /**
      * Constructs a {@code FilteredStudent} with the given {@code filteredStudents}.
      */
     public FilteredStudents(FilteredList<Student> filteredStudents) {
         this.filteredStudents = filteredStudents;
-        this.hasConciseInfo = false;
+        this.sortedStudents = new SortedList<>(filteredStudents);
     }
 
     public ObservableList<Student> getFilteredStudentList() {
-        return this.filteredStudents;
+        return this.sortedStudents;
     }
 
+    /**
+     * Filters the students by {@code predicate}, and restores the order of the student record.
+     */
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         filteredStudents.setPredicate(predicate);
+        sortedStudents.setComparator(null);
     }
 
     /**
-     * Calculates the mean of the specified {@code String exam}.
-     * @param exam The exam to calculate the mean of.
-     * @return The calculated mean.
+     * Orders the filtered students by {@code comparator}, without reordering the underlying student record.
      */
-    public double calculateExamMean(String exam) {
-        Iterator<Student> studentIterator = this.filteredStudents.iterator();
-        double sum = 0;
-        int noOfStudents = this.filteredStudents.size();
-        while (studentIterator.hasNext()) {
-            sum = sum + studentIterator.next().getExamScore(exam);
-        }
-        return sum / noOfStudents;
+    public void sortFilteredStudentList(Comparator<Student> comparator) {
+        sortedStudents.setComparator(comparator);
+    }
+
+    /**
+     * Returns the comparator that orders the filtered students, or null if they follow the order of the student record.
+     */
+    public Comparator<? super Student> getComparator() {
+        return sortedStudents.getComparator();
     }
 
     /**
      * Returns true only if the student's name and ID should be displayed.
      */
     public boolean hasConciseInfo() {
-        return this.hasConciseInfo;
+        return conciseInfo.get();
+    }
+
+    /**
+     * Returns a property that is true only if the student's name and ID should be displayed.
+     * The displayed students listen to it, so that toggling it does not change the filtered student list.
+     */
+    public ReadOnlyBooleanProperty conciseInfoProperty() {
+        return conciseInfo.getReadOnlyProperty();
     }
 
     /**
@@ -58,7 +74,7 @@ public class FilteredStudents {
      * Concise information hides the parent's details
      */
     public void toggleConciseInfo() {
-        this.hasConciseInfo = !hasConciseInfo;
+        conciseInfo.set(!conciseInfo.get());
     }
 
     @Override
@@ -75,7 +91,7 @@ public class FilteredStudents {
 
         // state check
         FilteredStudents other = (FilteredStudents) obj;
-        return this.filteredStudents.equals(other.filteredStudents)
-                && this.hasConciseInfo == other.hasConciseInfo;
+        return this.sortedStudents.equals(other.sortedStudents)
+                && this.conciseInfo.get() == other.conciseInfo.get();
     }
 }
@@ -2,10 +2,15 @@ package seedu.classify.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.classify.commons.core.GuiSettings;
+import seedu.classify.model.exam.ExamStatistics;
+import seedu.classify.model.student.Class;
 import seedu.classify.model.student.Student;
 
 /**
@@ -36,7 +41,10 @@ public interface Model {
     void setGuiSettings(GuiSettings guiSettings);
 
     /**
-     * Returns the user prefs' student record file path.
+     * Returns the file that the student record is kept in, as given by the user prefs' student record file path and
+     * format.
+     *
+     * @see UserPrefs#getStudentRecordFileInUse()
      */
     Path getStudentRecordFilePath();
 
@@ -73,6 +81,12 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given students to the end of the student list at once, without changing which students are displayed.
+     * None of {@code students} may already exist in the student record.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the student record.
@@ -81,6 +95,49 @@ public interface Model {
      */
     void setStudent(Student target, Student editedStudent);
 
+    /**
+     * Returns true if at least one student in the student record belongs to {@code className}.
+     */
+    boolean hasClass(Class className);
+
+    /**
+     * Returns an unmodifiable view of the students in the student record who belong to {@code className}.
+     */
+    Set<Student> getStudentsInClass(Class className);
+
+    /**
+     * Returns an unmodifiable set of the students in the student record whose names contain any of {@code words}
+     * as a whole word, ignoring case.
+     */
+    Set<Student> getStudentsWithAnyNameWord(List<String> words);
+
+    /**
+     * Returns an unmodifiable set of the students in the student record whose names contain a word that starts with
+     * any of {@code prefixes}, ignoring case.
+     * Unlike the other methods, this can be called from any thread. Changes made to the student record while it runs
+     * may or may not be reflected in the result.
+     */
+    Set<Student> getStudentsWithAnyNamePrefix(List<String> prefixes);
+
+    /**
+     * Returns the statistics of {@code exam} over the students in the student record who belong to
+     * {@code className}.
+     */
+    ExamStatistics getExamStatistics(Class className, String exam);
+
+    /**
+     * Returns up to {@code count} students with the highest scores for {@code exam}, highest score first.
+     * Only the students of {@code className} are considered if it is present. Students without a score for
+     * {@code exam} are left out. Neither the student record nor the filtered student list is changed.
+     */
+    List<Student> getHighestScorers(String exam, Optional<Class> className, int count);
+
+    /**
+     * Returns up to {@code count} students with the lowest scores for {@code exam}, lowest score first.
+     * Only the students of {@code className} are considered if it is present. Students without a score for
+     * {@code exam} are left out. Neither the student record nor the filtered student list is changed.
+     */
+    List<Student> getLowestScorers(String exam, Optional<Class> className, int count);
 
     /** Returns an unmodifiable view of the filtered student list */
     ObservableList<Student> getFilteredStudentList();
@@ -92,9 +149,12 @@ public interface Model {
     void updateFilteredStudentList(Predicate<Student> predicate);
 
     /**
-     * Calculates the mean {@code String exam} score of the filtered student list.
+     * Orders the filtered student list by the given {@code comparator}, without changing the order of the
+     * student record. The order lasts until the filter is next updated, after which the filtered student list
+     * follows the order of the student record again.
+     * @throws NullPointerException if {@code comparator} is null.
      */
-    double calculateExamMean(String exam);
+    void sortFilteredStudentList(Comparator<Student> comparator);
 
     /**
      * Toggles between showing all students' information and hiding students' parent details.
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +15,8 @@ import javafx.collections.transformation.FilteredList;
 import seedu.classify.commons.core.GuiSettings;
 import seedu.classify.commons.core.LogsCenter;
 import seedu.classify.commons.util.CollectionUtil;
+import seedu.classify.model.exam.ExamStatistics;
+import seedu.classify.model.student.Class;
 import seedu.classify.model.student.Student;
 
 /**
@@ -70,7 +75,7 @@ public class ModelManager implements Model {
 
     @Override
     public Path getStudentRecordFilePath() {
-        return userPrefs.getStudentRecordFilePath();
+        return userPrefs.getStudentRecordFileInUse();
     }
 
     @Override
@@ -114,6 +119,12 @@ public class ModelManager implements Model {
         storePredicate(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        requireNonNull(students);
+        studentRecord.addStudents(students);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         CollectionUtil.requireAllNonNull(target, editedStudent);
@@ -121,6 +132,48 @@ public class ModelManager implements Model {
         studentRecord.setStudent(target, editedStudent);
     }
 
+    @Override
+    public boolean hasClass(Class className) {
+        requireNonNull(className);
+        return studentRecord.hasClass(className);
+    }
+
+    @Override
+    public Set<Student> getStudentsInClass(Class className) {
+        requireNonNull(className);
+        return studentRecord.getStudentsInClass(className);
+    }
+
+    @Override
+    public Set<Student> getStudentsWithAnyNameWord(List<String> words) {
+        requireNonNull(words);
+        return studentRecord.getStudentsWithAnyNameWord(words);
+    }
+
+    @Override
+    public Set<Student> getStudentsWithAnyNamePrefix(List<String> prefixes) {
+        requireNonNull(prefixes);
+        return studentRecord.getStudentsWithAnyNamePrefix(prefixes);
+    }
+
+    @Override
+    public ExamStatistics getExamStatistics(Class className, String exam) {
+        CollectionUtil.requireAllNonNull(className, exam);
+        return studentRecord.getExamStatistics(className, exam);
+    }
+
+    @Override
+    public List<Student> getHighestScorers(String exam, Optional<Class> className, int count) {
+        CollectionUtil.requireAllNonNull(exam, className);
+        return studentRecord.getHighestScorers(exam, className, count);
+    }
+
+    @Override
+    public List<Student> getLowestScorers(String exam, Optional<Class> className, int count) {
+        CollectionUtil.requireAllNonNull(exam, className);
+        return studentRecord.getLowestScorers(exam, className, count);
+    }
+
     //=========== Filtered Student List Accessors =============================================================
 
     /**
@@ -138,6 +191,12 @@ public class ModelManager implements Model {
         this.filteredStudents.updateFilteredStudentList(predicate);
     }
 
+    @Override
+    public void sortFilteredStudentList(Comparator<Student> comparator) {
+        requireNonNull(comparator);
+        this.filteredStudents.sortFilteredStudentList(comparator);
+    }
+
     @Override
     public void toggleStudentListInfoConcise() {
         this.filteredStudents.toggleConciseInfo();
@@ -153,11 +212,6 @@ public class ModelManager implements Model {
         return this.filteredStudents;
     }
 
-    @Override
-    public double calculateExamMean(String exam) {
-        return this.filteredStudents.calculateExamMean(exam);
-    }
-
     @Override
     public void storePredicate(Predicate<Student> predicate) {
         this.prevPredicate = predicate;
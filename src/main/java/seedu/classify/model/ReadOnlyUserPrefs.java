@@ -3,6 +3,7 @@ package seedu.classify.model;
 import java.nio.file.Path;
 
 import seedu.classify.commons.core.GuiSettings;
+import seedu.classify.commons.core.StudentRecordFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getStudentRecordFilePath();
 
+    StudentRecordFormat getStudentRecordFormat();
+
 }
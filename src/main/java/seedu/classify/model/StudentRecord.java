@@ -4,9 +4,17 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.classify.model.exam.ExamStatistics;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.ClassIndex;
+import seedu.classify.model.student.ExamRanking;
+import seedu.classify.model.student.ExamStatisticsIndex;
 import seedu.classify.model.student.NameComparator;
+import seedu.classify.model.student.NameTokenIndex;
 import seedu.classify.model.student.Student;
 import seedu.classify.model.student.UniqueStudentList;
 
@@ -17,6 +25,9 @@ import seedu.classify.model.student.UniqueStudentList;
 public class StudentRecord implements ReadOnlyStudentRecord {
 
     private final UniqueStudentList students;
+    private final ClassIndex classIndex;
+    private final ExamStatisticsIndex examStatisticsIndex;
+    private final NameTokenIndex nameTokenIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +38,9 @@ public class StudentRecord implements ReadOnlyStudentRecord {
      */
     {
         students = new UniqueStudentList();
+        classIndex = new ClassIndex();
+        examStatisticsIndex = new ExamStatisticsIndex();
+        nameTokenIndex = new NameTokenIndex();
     }
 
     public StudentRecord() {}
@@ -47,6 +61,18 @@ public class StudentRecord implements ReadOnlyStudentRecord {
      */
     public void setPersons(List<Student> students) {
         this.students.setStudents(students);
+        rebuildIndexes();
+    }
+
+    /**
+     * Replaces the contents of the student list with {@code students}, ordered by name.
+     * The students are sorted once and published as a single change, so this should be used instead of repeated
+     * {@link #addStudent(Student)} calls when loading many students at once.
+     * {@code students} must not contain duplicate students.
+     */
+    public void loadStudents(List<Student> students) {
+        this.students.setStudents(students, NameComparator.getNameComparator());
+        rebuildIndexes();
     }
 
     /**
@@ -54,7 +80,13 @@ public class StudentRecord implements ReadOnlyStudentRecord {
      */
     public void resetData(ReadOnlyStudentRecord newData) {
         requireNonNull(newData);
-        setPersons(newData.getStudentList());
+        if (newData instanceof StudentRecord) {
+            // copies the identity indexes and known ordering along with the students
+            students.setStudents(((StudentRecord) newData).students);
+            rebuildIndexes();
+        } else {
+            setPersons(newData.getStudentList());
+        }
     }
 
     public void sortList(Comparator<Student> studentComparator) {
@@ -72,12 +104,23 @@ public class StudentRecord implements ReadOnlyStudentRecord {
     }
 
     /**
-     * Adds a student to the student record.
+     * Adds a student to the student record, keeping the student list ordered by name.
      * The student must not already exist in the student record.
      */
     public void addStudent(Student p) {
-        students.add(p);
-        sortList(NameComparator.getNameComparator());
+        students.addInOrder(p, NameComparator.getNameComparator());
+        addToIndexes(p);
+    }
+
+    /**
+     * Adds {@code students} to the end of the student list, publishing them as a single change.
+     * The list stays ordered by name if {@code students} are ordered by name and come after every existing student.
+     * None of the students may already exist in the student record, and {@code students} must not contain
+     * duplicate students.
+     */
+    public void addStudents(List<Student> students) {
+        this.students.addAll(students, NameComparator.getNameComparator());
+        students.forEach(this::addToIndexes);
     }
 
     /**
@@ -89,6 +132,8 @@ public class StudentRecord implements ReadOnlyStudentRecord {
     public void setStudent(Student target, Student editedStudent) {
         requireNonNull(editedStudent);
         students.setPerson(target, editedStudent);
+        removeFromIndexes(target);
+        addToIndexes(editedStudent);
     }
 
     /**
@@ -97,6 +142,7 @@ public class StudentRecord implements ReadOnlyStudentRecord {
      */
     public void removePerson(Student key) {
         students.remove(key);
+        removeFromIndexes(key);
     }
 
     /**
@@ -110,6 +156,82 @@ public class StudentRecord implements ReadOnlyStudentRecord {
         return students.excludesButContains(studentToExclude, studentToCheck);
     }
 
+    /**
+     * Returns true if at least one student in the student record belongs to {@code className}.
+     */
+    public boolean hasClass(Class className) {
+        return classIndex.hasClass(className);
+    }
+
+    /**
+     * Returns an unmodifiable view of the students in the student record who belong to {@code className}.
+     */
+    public Set<Student> getStudentsInClass(Class className) {
+        return classIndex.getStudents(className);
+    }
+
+    /**
+     * Returns an unmodifiable set of the students in the student record whose names contain any of {@code words}
+     * as a whole word, ignoring case.
+     */
+    public Set<Student> getStudentsWithAnyNameWord(List<String> words) {
+        return nameTokenIndex.getStudentsWithAnyWord(words);
+    }
+
+    /**
+     * Returns an unmodifiable set of the students in the student record whose names contain a word that starts with
+     * any of {@code prefixes}, ignoring case.
+     */
+    public Set<Student> getStudentsWithAnyNamePrefix(List<String> prefixes) {
+        return nameTokenIndex.getStudentsWithAnyWordPrefix(prefixes);
+    }
+
+    /**
+     * Returns the statistics of {@code exam} over the students in the student record who belong to
+     * {@code className}.
+     */
+    public ExamStatistics getExamStatistics(Class className, String exam) {
+        return examStatisticsIndex.getStatistics(className, exam);
+    }
+
+    /**
+     * Returns up to {@code count} students with the highest scores for {@code exam}, highest score first.
+     * Only the students of {@code className} are considered if it is present.
+     */
+    public List<Student> getHighestScorers(String exam, Optional<Class> className, int count) {
+        return ExamRanking.getHighestScorers(getCandidates(className), exam, count);
+    }
+
+    /**
+     * Returns up to {@code count} students with the lowest scores for {@code exam}, lowest score first.
+     * Only the students of {@code className} are considered if it is present.
+     */
+    public List<Student> getLowestScorers(String exam, Optional<Class> className, int count) {
+        return ExamRanking.getLowestScorers(getCandidates(className), exam, count);
+    }
+
+    private Iterable<Student> getCandidates(Optional<Class> className) {
+        return className.<Iterable<Student>>map(classIndex::getStudents).orElse(students);
+    }
+
+    private void addToIndexes(Student student) {
+        classIndex.add(student);
+        examStatisticsIndex.add(student);
+        nameTokenIndex.add(student);
+    }
+
+    private void removeFromIndexes(Student student) {
+        classIndex.remove(student);
+        examStatisticsIndex.remove(student);
+        nameTokenIndex.remove(student);
+    }
+
+    private void rebuildIndexes() {
+        classIndex.setStudents(students);
+        examStatisticsIndex.setStudents(students);
+        nameTokenIndex.setStudents(students);
+    }
+
     //// util methods
 
     @Override
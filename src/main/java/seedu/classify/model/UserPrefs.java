@@ -7,14 +7,19 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.classify.commons.core.GuiSettings;
+import seedu.classify.commons.core.StudentRecordFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final Path DEFAULT_STUDENT_RECORD_FILE_PATH = Paths.get("data" , "classify.json");
+    public static final Path DEFAULT_BINARY_STUDENT_RECORD_FILE_PATH = Paths.get("data" , "classify.bin");
+
     private GuiSettings guiSettings = new GuiSettings();
-    private Path studentRecordFilePath = Paths.get("data" , "classify.json");
+    private Path studentRecordFilePath = DEFAULT_STUDENT_RECORD_FILE_PATH;
+    private StudentRecordFormat studentRecordFormat = StudentRecordFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setStudentRecordFilePath(newUserPrefs.getStudentRecordFilePath());
+        setStudentRecordFormat(newUserPrefs.getStudentRecordFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,29 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.studentRecordFilePath = studentRecordFilePath;
     }
 
+    /**
+     * Returns the file that the student record is kept in, which is the student record file path unless the binary
+     * format is used with the default file path. As the default file holds json, the binary format then keeps the
+     * student record in {@code DEFAULT_BINARY_STUDENT_RECORD_FILE_PATH} instead. The file path itself is left as it
+     * is, so that switching back to json uses the default file again.
+     */
+    public Path getStudentRecordFileInUse() {
+        if (studentRecordFormat == StudentRecordFormat.BINARY
+                && studentRecordFilePath.equals(DEFAULT_STUDENT_RECORD_FILE_PATH)) {
+            return DEFAULT_BINARY_STUDENT_RECORD_FILE_PATH;
+        }
+        return studentRecordFilePath;
+    }
+
+    public StudentRecordFormat getStudentRecordFormat() {
+        return studentRecordFormat;
+    }
+
+    public void setStudentRecordFormat(StudentRecordFormat studentRecordFormat) {
+        requireNonNull(studentRecordFormat);
+        this.studentRecordFormat = studentRecordFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +97,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && studentRecordFilePath.equals(o.studentRecordFilePath);
+                && studentRecordFilePath.equals(o.studentRecordFilePath)
+                && studentRecordFormat == o.studentRecordFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, studentRecordFilePath);
+        return Objects.hash(guiSettings, studentRecordFilePath, studentRecordFormat);
     }
 
     @Override
@@ -81,6 +111,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + studentRecordFilePath);
+        sb.append("\nLocal data file format : " + studentRecordFormat);
         return sb.toString();
     }
 
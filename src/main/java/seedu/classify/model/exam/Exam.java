@@ -3,6 +3,10 @@ package seedu.classify.model.exam;
 import static java.util.Objects.requireNonNull;
 import static seedu.classify.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.classify.commons.util.StringUtil;
+
 /**
  * Represents an Exam that a student has.
  */
@@ -12,6 +16,13 @@ public class Exam {
     public static final String MESSAGE_NAME_CONSTRAINTS = "Exam name should be CA1, CA2, SA1 or SA2.";
     public static final String MESSAGE_SCORE_CONSTRAINTS = "Exam score should be a number between 0 to 100.";
     public static final String VALIDATION_REGEX = "[0-9]+";
+    public static final int MIN_SCORE = 0;
+    public static final int MAX_SCORE = 100;
+    /** Number of distinct exam names, see {@link #getExamIndex(String)}. */
+    public static final int NUMBER_OF_EXAMS = 4;
+
+    private static final String[] EXAM_NAMES = {"CA1", "CA2", "SA1", "SA2"};
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
     private final String name;
     private final int score;
@@ -23,8 +34,8 @@ public class Exam {
      */
     public Exam(String exam) {
         requireNonNull(exam);
-        checkArgument(isValidFormat(exam), MESSAGE_CONSTRAINTS);
-        String[] args = exam.split("\\s+");
+        String[] args = splitNameAndScore(exam);
+        checkArgument(args.length == 2, MESSAGE_CONSTRAINTS);
         String name = args[0];
         String score = args[1];
         checkArgument(isValidName(name.toUpperCase()), MESSAGE_NAME_CONSTRAINTS);
@@ -33,31 +44,81 @@ public class Exam {
         this.score = Integer.parseInt(score);
     }
 
+    /**
+     * Constructs a {@code Exam} with an already separated {@code name} and {@code score}.
+     */
+    public Exam(String name, int score) {
+        requireNonNull(name);
+        checkArgument(isValidName(name.toUpperCase()), MESSAGE_NAME_CONSTRAINTS);
+        checkArgument(score >= MIN_SCORE && score <= MAX_SCORE, MESSAGE_SCORE_CONSTRAINTS);
+        this.name = name.toUpperCase();
+        this.score = score;
+    }
+
     /**
      * Returns true if a given string is a valid exam format.
      */
     public static boolean isValidFormat(String test) {
-        String[] args = test.split("\\s+");
-        return args.length == 2;
+        return splitNameAndScore(test).length == 2;
+    }
+
+    /**
+     * Splits {@code exam} around whitespace, into its name and score if it is in a valid exam format.
+     */
+    public static String[] splitNameAndScore(String exam) {
+        return WHITESPACE.split(exam);
     }
 
     /**
      * Returns true if a given string is a valid exam name.
      */
     public static boolean isValidName(String test) {
-        return test.equals("CA1") || test.equals("CA2")
-                || test.equals("SA1") || test.equals("SA2");
+        return getExamIndex(test) >= 0;
+    }
+
+    /**
+     * Returns the position of the exam named {@code name} among the valid exam names, from 0 to
+     * {@code NUMBER_OF_EXAMS - 1}, or -1 if {@code name} is not a valid exam name.
+     */
+    public static int getExamIndex(String name) {
+        switch (name) {
+        case "CA1":
+            return 0;
+        case "CA2":
+            return 1;
+        case "SA1":
+            return 2;
+        case "SA2":
+            return 3;
+        default:
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the name of the exam at position {@code examIndex}, the reverse of {@link #getExamIndex(String)}.
+     */
+    public static String getExamName(int examIndex) {
+        checkArgument(examIndex >= 0 && examIndex < NUMBER_OF_EXAMS);
+        return EXAM_NAMES[examIndex];
     }
 
     /**
      * Returns true if a given string is a valid exam score.
+     * The string must match {@code VALIDATION_REGEX}, which is checked without compiling a pattern.
      */
     public static boolean isValidScore(String test) {
-        if (test.matches(VALIDATION_REGEX)) {
-            int score = Integer.parseInt(test);
-            return score >= 0 && score <= 100;
+        if (!StringUtil.isAsciiDigits(test)) {
+            return false;
+        }
+        int score = 0;
+        for (int i = 0; i < test.length(); i++) {
+            score = score * 10 + (test.charAt(i) - '0');
+            if (score > MAX_SCORE) {
+                return false;
+            }
         }
-        return false;
+        return score >= MIN_SCORE;
     }
 
     /**
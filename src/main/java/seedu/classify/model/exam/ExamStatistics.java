@@ -0,0 +1,128 @@
+package seedu.classify.model.exam;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.classify.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * Represents summary statistics of the scores of one exam, taken over a group of students.
+ * Guarantees: immutable.
+ */
+public class ExamStatistics {
+
+    private final ScoreHistogram scores;
+    private final int missingCount;
+    private final double mean;
+    private final double standardDeviation;
+
+    /**
+     * Constructs an {@code ExamStatistics} from the scores of the students who took the exam.
+     *
+     * @param scores Scores of the students with a score for the exam. A copy is kept.
+     * @param missingCount Number of students without a score for the exam.
+     */
+    public ExamStatistics(ScoreHistogram scores, int missingCount) {
+        requireNonNull(scores);
+        checkArgument(missingCount >= 0);
+        this.scores = new ScoreHistogram(scores);
+        this.missingCount = missingCount;
+        int scoredCount = scores.getCount();
+        if (scoredCount == 0) {
+            this.mean = Double.NaN;
+            this.standardDeviation = Double.NaN;
+            return;
+        }
+        this.mean = (double) scores.getSum() / scoredCount;
+        // population variance; clamped as rounding may make it slightly negative when all scores are equal
+        double variance = (double) scores.getSumOfSquares() / scoredCount - mean * mean;
+        this.standardDeviation = Math.sqrt(Math.max(0, variance));
+    }
+
+    /**
+     * Returns true if at least one student has a score for the exam.
+     */
+    public boolean hasScores() {
+        return !scores.isEmpty();
+    }
+
+    public int getScoredCount() {
+        return scores.getCount();
+    }
+
+    public int getMissingCount() {
+        return missingCount;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public int getLowestScore() {
+        return scores.getLowestScore();
+    }
+
+    public int getHighestScore() {
+        return scores.getHighestScore();
+    }
+
+    public double getMedian() {
+        return scores.getPercentile(50);
+    }
+
+    public double getLowerQuartile() {
+        return scores.getPercentile(25);
+    }
+
+    public double getUpperQuartile() {
+        return scores.getPercentile(75);
+    }
+
+    /**
+     * Returns the {@code percentile}-th percentile of the scores, or {@code Double.NaN} if there are no scores.
+     *
+     * @see ScoreHistogram#getPercentile(double)
+     */
+    public double getPercentile(double percentile) {
+        return scores.getPercentile(percentile);
+    }
+
+    /**
+     * Returns the number of scores in each band of {@code bandWidth} consecutive scores.
+     *
+     * @see ScoreHistogram#getDistribution(int)
+     */
+    public int[] getDistribution(int bandWidth) {
+        return scores.getDistribution(bandWidth);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ExamStatistics)) {
+            return false;
+        }
+
+        ExamStatistics otherStatistics = (ExamStatistics) other;
+        return scores.equals(otherStatistics.scores)
+                && missingCount == otherStatistics.missingCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scores, missingCount);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d scored, %d missing, mean %.2f, standard deviation %.2f, range %d-%d",
+                getScoredCount(), missingCount, mean, standardDeviation, getLowestScore(), getHighestScore());
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.classify.model.exam;
+
+import static seedu.classify.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Counts the number of occurrences of every possible exam score, from {@code Exam.MIN_SCORE} to
+ * {@code Exam.MAX_SCORE}.
+ * As scores are bounded, order statistics such as the median are found by scanning the buckets, without sorting
+ * the scores themselves.
+ */
+public class ScoreHistogram {
+
+    public static final int NUMBER_OF_BUCKETS = Exam.MAX_SCORE - Exam.MIN_SCORE + 1;
+
+    private final int[] occurrences;
+    private int count;
+    private long sum;
+    private long sumOfSquares;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public ScoreHistogram() {
+        occurrences = new int[NUMBER_OF_BUCKETS];
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}.
+     */
+    public ScoreHistogram(ScoreHistogram toCopy) {
+        occurrences = Arrays.copyOf(toCopy.occurrences, NUMBER_OF_BUCKETS);
+        count = toCopy.count;
+        sum = toCopy.sum;
+        sumOfSquares = toCopy.sumOfSquares;
+    }
+
+    /**
+     * Records one occurrence of {@code score}.
+     */
+    public void add(int score) {
+        checkArgument(isValidScore(score), Exam.MESSAGE_SCORE_CONSTRAINTS);
+        occurrences[score - Exam.MIN_SCORE]++;
+        count++;
+        sum += score;
+        sumOfSquares += (long) score * score;
+    }
+
+    /**
+     * Removes one occurrence of {@code score}, which must have been added to this histogram.
+     */
+    public void remove(int score) {
+        checkArgument(isValidScore(score), Exam.MESSAGE_SCORE_CONSTRAINTS);
+        assert occurrences[score - Exam.MIN_SCORE] > 0;
+        occurrences[score - Exam.MIN_SCORE]--;
+        count--;
+        sum -= score;
+        sumOfSquares -= (long) score * score;
+    }
+
+    private static boolean isValidScore(int score) {
+        return score >= Exam.MIN_SCORE && score <= Exam.MAX_SCORE;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of scores in this histogram.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of occurrences of {@code score}.
+     */
+    public int getOccurrences(int score) {
+        return isValidScore(score) ? occurrences[score - Exam.MIN_SCORE] : 0;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getSumOfSquares() {
+        return sumOfSquares;
+    }
+
+    /**
+     * Returns the lowest score, or {@code Exam.MIN_SCORE} if the histogram is empty.
+     */
+    public int getLowestScore() {
+        return isEmpty() ? Exam.MIN_SCORE : getScoreAtRank(0);
+    }
+
+    /**
+     * Returns the highest score, or {@code Exam.MIN_SCORE} if the histogram is empty.
+     */
+    public int getHighestScore() {
+        if (isEmpty()) {
+            return Exam.MIN_SCORE;
+        }
+        int bucket = NUMBER_OF_BUCKETS - 1;
+        while (occurrences[bucket] == 0) {
+            bucket--;
+        }
+        return bucket + Exam.MIN_SCORE;
+    }
+
+    /**
+     * Returns the score at position {@code rank} when all scores are listed in ascending order.
+     * {@code rank} is zero-based and must be less than {@link #getCount()}.
+     */
+    public int getScoreAtRank(int rank) {
+        checkArgument(rank >= 0 && rank < count);
+        int seen = 0;
+        for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+            seen += occurrences[bucket];
+            if (seen > rank) {
+                return bucket + Exam.MIN_SCORE;
+            }
+        }
+        throw new AssertionError("The bucket counts do not add up to the number of scores.");
+    }
+
+    /**
+     * Returns the {@code percentile}-th percentile of the scores, interpolating linearly between the two closest
+     * ranks, or {@code Double.NaN} if the histogram is empty.
+     * The 0th percentile is the lowest score and the 100th percentile is the highest score.
+     */
+    public double getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100);
+        if (isEmpty()) {
+            return Double.NaN;
+        }
+        double position = (count - 1) * percentile / 100;
+        int lowerRank = (int) Math.floor(position);
+        int lowerScore = getScoreAtRank(lowerRank);
+        if (lowerRank == position) {
+            return lowerScore;
+        }
+        int upperScore = getScoreAtRank(lowerRank + 1);
+        return lowerScore + (position - lowerRank) * (upperScore - lowerScore);
+    }
+
+    /**
+     * Returns the number of scores in each band of {@code bandWidth} consecutive scores, starting from
+     * {@code Exam.MIN_SCORE}. The last band also holds {@code Exam.MAX_SCORE}, so that a perfect score does not
+     * make up a band on its own.
+     */
+    public int[] getDistribution(int bandWidth) {
+        checkArgument(bandWidth > 0 && bandWidth < NUMBER_OF_BUCKETS);
+        int numberOfBands = (NUMBER_OF_BUCKETS - 1) / bandWidth;
+        int[] bands = new int[numberOfBands];
+        for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+            bands[Math.min(bucket / bandWidth, numberOfBands - 1)] += occurrences[bucket];
+        }
+        return bands;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScoreHistogram // instanceof handles nulls
+                && Arrays.equals(occurrences, ((ScoreHistogram) other).occurrences)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(occurrences);
+    }
+}
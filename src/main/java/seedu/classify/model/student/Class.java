@@ -3,6 +3,7 @@ package seedu.classify.model.student;
 import static java.util.Objects.requireNonNull;
 
 import seedu.classify.commons.util.AppUtil;
+import seedu.classify.commons.util.StringUtil;
 
 /**
  * Represents a Class that a student belongs to.
@@ -33,9 +34,10 @@ public class Class {
 
     /**
      * Returns true if a given string is a valid class name.
+     * Same as matching {@code VALIDATION_REGEX}, without compiling a pattern.
      */
     public static boolean isValidClassName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWithSpaces(test);
     }
 
     @Override
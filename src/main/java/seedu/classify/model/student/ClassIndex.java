@@ -0,0 +1,72 @@
+package seedu.classify.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of students grouped by the {@code Class} they belong to.
+ * The index does not enforce uniqueness of students; it is expected to mirror the contents of a
+ * {@code UniqueStudentList}, and to be updated whenever a student is added to, replaced in or removed from that list.
+ *
+ * Supports a minimal set of operations.
+ */
+public class ClassIndex {
+
+    private final Map<Class, Set<Student>> studentsByClass = new HashMap<>();
+
+    /**
+     * Adds {@code student} to the group of its class.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        studentsByClass.computeIfAbsent(student.getClassName(), unused -> new LinkedHashSet<>()).add(student);
+    }
+
+    /**
+     * Removes {@code student} from the group of its class.
+     * Classes with no remaining students are dropped from the index.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        Set<Student> classStudents = studentsByClass.get(student.getClassName());
+        if (classStudents == null) {
+            return;
+        }
+        classStudents.remove(student);
+        if (classStudents.isEmpty()) {
+            studentsByClass.remove(student.getClassName());
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code students}.
+     */
+    public void setStudents(Iterable<Student> students) {
+        requireNonNull(students);
+        studentsByClass.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns true if at least one student belongs to {@code className}.
+     */
+    public boolean hasClass(Class className) {
+        requireNonNull(className);
+        return studentsByClass.containsKey(className);
+    }
+
+    /**
+     * Returns an unmodifiable view of the students in {@code className}.
+     * Returns an empty set if there are no students in {@code className}.
+     */
+    public Set<Student> getStudents(Class className) {
+        requireNonNull(className);
+        Set<Student> classStudents = studentsByClass.get(className);
+        return classStudents == null ? Collections.emptySet() : Collections.unmodifiableSet(classStudents);
+    }
+}
@@ -12,6 +12,10 @@ public class ClassPredicate implements Predicate<Student> {
         this.className = className;
     }
 
+    public Class getClassName() {
+        return className;
+    }
+
     @Override
     public boolean test(Student student) {
         return student.getClassName().className.equalsIgnoreCase(this.className.className);
@@ -3,6 +3,7 @@ package seedu.classify.model.student;
 import static java.util.Objects.requireNonNull;
 
 import seedu.classify.commons.util.AppUtil;
+import seedu.classify.commons.util.StringUtil;
 
 /**
  * Represents a Student's email in the record.
@@ -55,9 +56,67 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Same as matching {@code VALIDATION_REGEX}, but checks each character once instead of backtracking.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int atIndex = test.indexOf('@');
+        return atIndex >= 0 && isValidLocalPart(test, atIndex) && isValidDomain(test, atIndex + 1);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} before {@code end} are alphanumeric characters, separated by
+     * single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} are domain labels separated by periods.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        int labelStart = start;
+        int periodIndex;
+        while ((periodIndex = test.indexOf('.', labelStart)) >= 0) {
+            if (!isValidDomainLabel(test, labelStart, periodIndex, false)) {
+                return false;
+            }
+            labelStart = periodIndex + 1;
+        }
+        return isValidDomainLabel(test, labelStart, test.length(), true);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} to {@code end} are alphanumeric characters,
+     * separated by single hyphens. The last label must also be at least 2 characters long, which the regex expresses
+     * as at least two consecutive alphanumeric characters.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end, boolean isLastLabel) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasConsecutiveAlphanumerics = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                hasConsecutiveAlphanumerics |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && c == '-') {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && (!isLastLabel || hasConsecutiveAlphanumerics);
     }
 
     /**
@@ -0,0 +1,63 @@
+package seedu.classify.model.student;
+
+import static seedu.classify.commons.util.AppUtil.checkArgument;
+import static seedu.classify.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the students with the highest or lowest scores for an exam.
+ * Only the best {@code count} students seen so far are kept in a bounded heap, so selecting from {@code n} students
+ * takes O(n log count) time and leaves the given students untouched.
+ */
+public class ExamRanking {
+
+    private ExamRanking() {
+    }
+
+    /**
+     * Returns up to {@code count} students of {@code students} with the highest scores for {@code exam}, highest
+     * score first. Students with equal scores are ordered by name, and students without a score are left out.
+     */
+    public static List<Student> getHighestScorers(Iterable<Student> students, String exam, int count) {
+        Comparator<Student> byScore = Comparator.comparingInt(student -> student.getExamScore(exam));
+        return select(students, exam, count, byScore.reversed());
+    }
+
+    /**
+     * Returns up to {@code count} students of {@code students} with the lowest scores for {@code exam}, lowest
+     * score first. Students with equal scores are ordered by name, and students without a score are left out.
+     */
+    public static List<Student> getLowestScorers(Iterable<Student> students, String exam, int count) {
+        return select(students, exam, count, Comparator.comparingInt(student -> student.getExamScore(exam)));
+    }
+
+    private static List<Student> select(Iterable<Student> students, String exam, int count,
+                                        Comparator<Student> scoreOrder) {
+        requireAllNonNull(students, exam);
+        checkArgument(count > 0);
+        Comparator<Student> rankOrder = scoreOrder.thenComparing(NameComparator.getNameComparator());
+
+        // the head of the heap is the lowest ranked of the students kept. The heap grows as needed, as count may be far
+        // larger than the number of students
+        PriorityQueue<Student> kept = new PriorityQueue<>(rankOrder.reversed());
+        for (Student student : students) {
+            if (!student.hasExam(exam)) {
+                continue;
+            }
+            if (kept.size() < count) {
+                kept.add(student);
+            } else if (rankOrder.compare(student, kept.peek()) < 0) {
+                kept.poll();
+                kept.add(student);
+            }
+        }
+
+        List<Student> ranking = new ArrayList<>(kept);
+        ranking.sort(rankOrder);
+        return ranking;
+    }
+}
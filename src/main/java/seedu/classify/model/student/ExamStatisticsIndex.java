@@ -0,0 +1,92 @@
+package seedu.classify.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.exam.ExamStatistics;
+import seedu.classify.model.exam.ScoreHistogram;
+
+/**
+ * Score histograms of every exam of every class, keyed by class and exam name.
+ * Like {@code ClassIndex}, the index is expected to mirror the contents of a {@code UniqueStudentList}, and to be
+ * updated whenever a student is added to, replaced in or removed from that list. Statistics can then be read
+ * without visiting the students of the class.
+ */
+public class ExamStatisticsIndex {
+
+    private final Map<Class, ClassScores> scoresByClass = new HashMap<>();
+
+    /**
+     * Adds the exam scores of {@code student} to the statistics of its class.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        ClassScores classScores = scoresByClass.computeIfAbsent(student.getClassName(), unused -> new ClassScores());
+        classScores.studentCount++;
+        for (Exam exam : student.getExams()) {
+            classScores.scoresOf(exam.getExamName()).add(exam.getScore());
+        }
+    }
+
+    /**
+     * Removes the exam scores of {@code student} from the statistics of its class.
+     * {@code student} must have been added to this index.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        ClassScores classScores = scoresByClass.get(student.getClassName());
+        if (classScores == null) {
+            return;
+        }
+        classScores.studentCount--;
+        if (classScores.studentCount == 0) {
+            scoresByClass.remove(student.getClassName());
+            return;
+        }
+        for (Exam exam : student.getExams()) {
+            classScores.scoresOf(exam.getExamName()).remove(exam.getScore());
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the scores of {@code students}.
+     */
+    public void setStudents(Iterable<Student> students) {
+        requireNonNull(students);
+        scoresByClass.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the statistics of {@code exam} over the students of {@code className}.
+     * Students of the class without a score for {@code exam} are counted as missing.
+     */
+    public ExamStatistics getStatistics(Class className, String exam) {
+        requireNonNull(className);
+        requireNonNull(exam);
+        ClassScores classScores = scoresByClass.get(className);
+        if (classScores == null) {
+            return new ExamStatistics(new ScoreHistogram(), 0);
+        }
+        ScoreHistogram scores = classScores.scoresByExam.get(exam);
+        if (scores == null) {
+            return new ExamStatistics(new ScoreHistogram(), classScores.studentCount);
+        }
+        return new ExamStatistics(scores, classScores.studentCount - scores.getCount());
+    }
+
+    /**
+     * The students count and exam scores of a single class.
+     */
+    private static class ClassScores {
+        private final Map<String, ScoreHistogram> scoresByExam = new HashMap<>();
+        private int studentCount;
+
+        ScoreHistogram scoresOf(String exam) {
+            return scoresByExam.computeIfAbsent(exam, unused -> new ScoreHistogram());
+        }
+    }
+}
@@ -1,14 +1,26 @@
 package seedu.classify.model.student;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import seedu.classify.model.exam.Exam;
 
 /**
- * Compares the grades of 2 students in a particular exam. The 2 students must be from the same class.
+ * Compares the grades of 2 students in a particular exam.
+ * Students of the given class come first, in ascending order of their grade, followed by the students of the class
+ * without a grade for the exam, then by the students of other classes.
  */
 public class GradeComparator implements Comparator<Student> {
 
+    private static final int MISSING_GRADE_KEY = Exam.MAX_SCORE + 1;
+    private static final int OTHER_CLASS_KEY = Exam.MAX_SCORE + 2;
+
     private final String exam;
     private final Class className;
+    // Sort keys computed up front, so that comparing two of these students is a lookup instead of an exam search
+    private final Map<Student, Integer> precomputedKeys = new IdentityHashMap<>();
 
     /**
      * Creates a GradeComparator object using the given {@code String exam}, to compare the grades in that exam.
@@ -18,23 +30,31 @@ public class GradeComparator implements Comparator<Student> {
         this.className = className;
     }
 
-    @Override
-    public int compare(Student o1, Student o2) {
-        // if the student does not belong to the class, group them at the bottom of the list
-        if (!o1.getClassName().equals(className)) {
-            return 1;
-        }
-        if (!o2.getClassName().equals(className)) {
-            return -1;
+    /**
+     * Creates a GradeComparator object as above, that computes the sort keys of {@code students} once up front.
+     * Those students are expected to make up most of the students compared.
+     */
+    public GradeComparator(String exam, Class className, Collection<Student> students) {
+        this(exam, className);
+        for (Student student : students) {
+            precomputedKeys.put(student, computeKey(student));
         }
-        int o1Score = o1.getExamScore(exam);
-        int o2Score = o2.getExamScore(exam);
-        if (o1Score < o2Score) {
-            return -1;
-        } else if (o2Score < o1Score) {
-            return 1;
-        } else {
-            return 0;
+    }
+
+    private int computeKey(Student student) {
+        if (!student.getClassName().equals(className)) {
+            return OTHER_CLASS_KEY;
         }
+        return student.hasExam(exam) ? student.getExamScore(exam) : MISSING_GRADE_KEY;
+    }
+
+    private int getKey(Student student) {
+        Integer key = precomputedKeys.get(student);
+        return key == null ? computeKey(student) : key;
+    }
+
+    @Override
+    public int compare(Student o1, Student o2) {
+        return Integer.compare(getKey(o1), getKey(o2));
     }
 }
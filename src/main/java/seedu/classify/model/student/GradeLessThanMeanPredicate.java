@@ -3,7 +3,8 @@ package seedu.classify.model.student;
 import java.util.function.Predicate;
 
 /**
- * Tests that a {@code Student}'s grade for a particular exam is less than the mean score of the class for that exam
+ * Tests that a {@code Student}'s grade for a particular exam is less than the mean score of the class for that exam.
+ * Students without a grade for the exam do not pass the test.
  */
 public class GradeLessThanMeanPredicate implements Predicate<Student> {
 
@@ -27,7 +28,8 @@ public class GradeLessThanMeanPredicate implements Predicate<Student> {
 
     @Override
     public boolean test(Student student) {
-        return (student.getClassName().equals(className)) && (student.getExamScore(exam) < mean);
+        return (student.getClassName().equals(className)) && student.hasExam(exam)
+                && (student.getExamScore(exam) < mean);
     }
 
     @Override
@@ -3,6 +3,7 @@ package seedu.classify.model.student;
 import static java.util.Objects.requireNonNull;
 
 import seedu.classify.commons.util.AppUtil;
+import seedu.classify.commons.util.StringUtil;
 
 /**
  * Represents a Student Id in the record.
@@ -28,9 +29,12 @@ public class Id {
 
     /**
      * Returns true if a given string is a valid id.
+     * Same as matching {@code VALIDATION_REGEX}, without compiling a pattern.
      */
     public static boolean isValidId(String test) {
-        return test.length() == 4 && test.matches(VALIDATION_REGEX);
+        return test.length() == 4 && StringUtil.isAsciiDigit(test.charAt(0))
+                && StringUtil.isAsciiDigit(test.charAt(1)) && StringUtil.isAsciiDigit(test.charAt(2))
+                && StringUtil.isAsciiLetter(test.charAt(3));
     }
 
     @Override
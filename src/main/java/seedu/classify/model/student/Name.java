@@ -3,6 +3,7 @@ package seedu.classify.model.student;
 import static java.util.Objects.requireNonNull;
 
 import seedu.classify.commons.util.AppUtil;
+import seedu.classify.commons.util.StringUtil;
 
 /**
  * Represents a Student or Parent name in the record.
@@ -42,9 +43,10 @@ public class Name {
 
     /**
      * Returns true if a given string is a valid name.
+     * Same as matching {@code VALIDATION_REGEX}, without compiling a pattern.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWithSpaces(test);
     }
 
     /**
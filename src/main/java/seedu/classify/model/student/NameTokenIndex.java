@@ -0,0 +1,116 @@
+package seedu.classify.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import seedu.classify.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words of students' names to the students whose names contain them, ignoring case.
+ * The words are kept in sorted order, so the words that start with a prefix are next to each other.
+ * The index does not enforce uniqueness of students; it is expected to mirror the contents of a
+ * {@code UniqueStudentList}, and to be updated whenever a student is added to, replaced in or removed from that list.
+ * The index must only be updated from one thread at a time, but can be looked up from other threads while it is
+ * updated. A lookup made during an update may or may not reflect that update.
+ *
+ * Supports a minimal set of operations.
+ */
+public class NameTokenIndex {
+
+    private final NavigableMap<String, Set<Student>> studentsByToken = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds {@code student} under each word of its name.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        for (String word : StringUtil.splitWords(student.getStudentName().fullName)) {
+            studentsByToken.computeIfAbsent(toToken(word), unused -> ConcurrentHashMap.newKeySet()).add(student);
+        }
+    }
+
+    /**
+     * Removes {@code student} from under each word of its name.
+     * Words with no remaining students are dropped from the index.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        for (String word : StringUtil.splitWords(student.getStudentName().fullName)) {
+            String token = toToken(word);
+            Set<Student> tokenStudents = studentsByToken.get(token);
+            if (tokenStudents == null) {
+                continue;
+            }
+            tokenStudents.remove(student);
+            if (tokenStudents.isEmpty()) {
+                studentsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code students}.
+     */
+    public void setStudents(Iterable<Student> students) {
+        requireNonNull(students);
+        studentsByToken.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable set of the students whose names contain any of {@code words} as a whole word, ignoring
+     * case. A student matches exactly when {@code StringUtil#containsWordIgnoreCase} would match its name.
+     */
+    public Set<Student> getStudentsWithAnyWord(List<String> words) {
+        requireNonNull(words);
+        Set<Student> students = new HashSet<>();
+        for (String word : words) {
+            Set<Student> tokenStudents = studentsByToken.get(toToken(word.trim()));
+            if (tokenStudents != null) {
+                students.addAll(tokenStudents);
+            }
+        }
+        return Collections.unmodifiableSet(students);
+    }
+
+    /**
+     * Returns an unmodifiable set of the students whose names contain a word that starts with any of
+     * {@code prefixes}, ignoring case.
+     */
+    public Set<Student> getStudentsWithAnyWordPrefix(List<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<Student> students = new HashSet<>();
+        for (String prefix : prefixes) {
+            // a word starts with a prefix exactly when its token starts with the token of the prefix
+            String tokenPrefix = toToken(prefix.trim());
+            for (Map.Entry<String, Set<Student>> entry : studentsByToken.tailMap(tokenPrefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(tokenPrefix)) {
+                    break;
+                }
+                students.addAll(entry.getValue());
+            }
+        }
+        return Collections.unmodifiableSet(students);
+    }
+
+    /**
+     * Returns the case-folded form of {@code word}, which is the same for two words exactly when they are equal
+     * ignoring case, as defined by {@link String#equalsIgnoreCase(String)}. Each character is folded on its own,
+     * independently of the default locale, so the token of a prefix of a word is a prefix of the token of the word.
+     */
+    private static String toToken(String word) {
+        StringBuilder token = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            token.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return token.toString();
+    }
+}
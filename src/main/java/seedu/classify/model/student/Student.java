@@ -2,9 +2,9 @@ package seedu.classify.model.student;
 
 import static seedu.classify.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -18,19 +18,29 @@ import seedu.classify.model.student.exceptions.ExamNotFoundException;
  */
 public class Student {
 
+    private static final byte NO_SCORE = -1;
+
     // Student fields
     private final Name studentName;
     private final Id id;
 
     // Academic fields
     private final Class className;
-    private final Set<Exam> exams = new HashSet<>();
+    /**
+     * Scores indexed by {@link Exam#getExamIndex(String)}, or {@code NO_SCORE} for exams without a score.
+     * The exams of the student are only kept here, and {@link #getExams()} is a view of them.
+     */
+    private final byte[] scores = new byte[Exam.NUMBER_OF_EXAMS];
 
     // Parent fields
     private final Name parentName;
     private final Phone phone;
     private final Email email;
 
+    // Computed on first use, as most students are never displayed. StudentDisplay is immutable, so a student
+    // displayed by several threads at once at worst computes it more than once.
+    private StudentDisplay display;
+
     /**
      * Every field must be present and not null.
      */
@@ -43,7 +53,10 @@ public class Student {
         this.parentName = parentName;
         this.phone = phone;
         this.email = email;
-        this.exams.addAll(exams);
+        Arrays.fill(scores, NO_SCORE);
+        for (Exam exam : exams) {
+            scores[Exam.getExamIndex(exam.getExamName())] = (byte) exam.getScore();
+        }
     }
 
     public Name getStudentName() {
@@ -71,39 +84,46 @@ public class Student {
     }
 
     /**
-     * Returns an immutable exam set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns an immutable exam set, in the order of the exam names, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
+     * The set is built from the scores of the student on each call.
      */
     public Set<Exam> getExams() {
+        Set<Exam> exams = new LinkedHashSet<>();
+        for (int examIndex = 0; examIndex < scores.length; examIndex++) {
+            if (scores[examIndex] != NO_SCORE) {
+                exams.add(new Exam(Exam.getExamName(examIndex), scores[examIndex]));
+            }
+        }
         return Collections.unmodifiableSet(exams);
     }
 
+    /**
+     * Returns the student's exam named {@code exam}.
+     *
+     * @throws ExamNotFoundException if the student has no score for {@code exam}.
+     */
     public Exam getExam(String exam) throws ExamNotFoundException {
         assert exam.equals("CA1") || exam.equals("CA2") || exam.equals("SA1") || exam.equals("SA2");
-        Iterator<Exam> examIterator = exams.iterator();
-        Exam currExam = null;
-        while (examIterator.hasNext()) {
-            Exam temp = examIterator.next();
-            if (temp.getExamName().equals(exam)) {
-                currExam = temp;
-                break;
-            }
-        }
-        if (currExam == null) {
-            throw new ExamNotFoundException();
-        }
-        return currExam;
+        return new Exam(exam, getExamScore(exam));
+    }
+
+    /**
+     * Returns true if the student has a score for the specified exam.
+     */
+    public boolean hasExam(String exam) {
+        int examIndex = Exam.getExamIndex(exam);
+        return examIndex >= 0 && scores[examIndex] != NO_SCORE;
     }
 
     /**
      * Return the student's grade for the specified exam
      */
-    public int getExamScore(String exam) {
-        try {
-            return getExam(exam).getScore();
-        } catch (ExamNotFoundException e) {
+    public int getExamScore(String exam) throws ExamNotFoundException {
+        if (!hasExam(exam)) {
             throw new ExamNotFoundException();
         }
+        return scores[Exam.getExamIndex(exam)];
     }
 
     /**
@@ -141,39 +161,30 @@ public class Student {
                 && otherStudent.getParentName().equals(getParentName())
                 && otherStudent.getPhone().equals(getPhone())
                 && otherStudent.getEmail().equals(getEmail())
-                && otherStudent.getExams().equals(getExams());
+                && Arrays.equals(otherStudent.scores, scores);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(studentName, id, className, parentName, phone, email, exams);
+        return Objects.hash(studentName, id, className, parentName, phone, email, Arrays.hashCode(scores));
+    }
+
+    /**
+     * Returns the strings used to display this student, which are computed once and then reused.
+     */
+    public StudentDisplay getDisplay() {
+        StudentDisplay result = display;
+        if (result == null) {
+            result = new StudentDisplay(this);
+            display = result;
+        }
+        return result;
     }
 
     @Override
     public String toString() {
-        final StringBuilder builder = new StringBuilder();
-        builder.append("\nName: ")
-                .append(getStudentName())
-                .append("\nId: ")
-                .append(getId())
-                .append("\nClass: ")
-                .append(getClassName());
-        if (!getParentName().isEmpty()) {
-            builder.append("\nParent Name: ").append(getParentName());
-        }
-        if (!getPhone().isEmpty()) {
-            builder.append("\nParent Phone: ").append(getPhone());
-        }
-        if (!getEmail().isEmpty()) {
-            builder.append("\nParent Email: ").append(getEmail());;
-        }
-        Set<Exam> examSet = getExams();
-        if (!examSet.isEmpty()) {
-            builder.append("\nExams: ");
-            examSet.forEach(exam -> builder.append("\n").append(exam));
-        }
-        return builder.toString();
+        return getDisplay().getSummary();
     }
 
 }
@@ -0,0 +1,117 @@
+package seedu.classify.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.classify.model.exam.Exam;
+
+/**
+ * Holds the strings used to display a {@code Student}, so that they are only computed once for each student.
+ * Guarantees: immutable; details are present and not null.
+ *
+ * @see Student#getDisplay()
+ */
+public class StudentDisplay {
+
+    /** Shown in place of an optional field that is empty. */
+    public static final String PLACEHOLDER = "-";
+
+    private final String studentName;
+    private final String id;
+    private final String className;
+    private final String parentName;
+    private final String phone;
+    private final String email;
+    private final List<String> examLabels;
+    private final String summary;
+
+    /**
+     * Computes the display strings of {@code student}.
+     */
+    public StudentDisplay(Student student) {
+        requireNonNull(student);
+        studentName = student.getStudentName().fullName;
+        id = student.getId().value;
+        className = student.getClassName().className;
+        parentName = orPlaceholder(student.getParentName().fullName);
+        phone = orPlaceholder(student.getPhone().value);
+        email = orPlaceholder(student.getEmail().value);
+        examLabels = Collections.unmodifiableList(student.getExams().stream()
+                .map(Exam::toString)
+                .sorted()
+                .collect(Collectors.toList()));
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("\nName: ").append(studentName)
+                .append("\nId: ").append(id)
+                .append("\nClass: ").append(className);
+        if (!student.getParentName().isEmpty()) {
+            builder.append("\nParent Name: ").append(parentName);
+        }
+        if (!student.getPhone().isEmpty()) {
+            builder.append("\nParent Phone: ").append(phone);
+        }
+        if (!student.getEmail().isEmpty()) {
+            builder.append("\nParent Email: ").append(email);
+        }
+        if (!examLabels.isEmpty()) {
+            builder.append("\nExams: ");
+            examLabels.forEach(exam -> builder.append("\n").append(exam));
+        }
+        summary = builder.toString();
+    }
+
+    private static String orPlaceholder(String value) {
+        return value.isEmpty() ? PLACEHOLDER : value;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Returns the parent's name, or {@link #PLACEHOLDER} if it is empty.
+     */
+    public String getParentName() {
+        return parentName;
+    }
+
+    /**
+     * Returns the parent's phone number, or {@link #PLACEHOLDER} if it is empty.
+     */
+    public String getPhone() {
+        return phone;
+    }
+
+    /**
+     * Returns the parent's email, or {@link #PLACEHOLDER} if it is empty.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns an unmodifiable list of the student's exams as labels, such as {@code CA1 80}, in alphabetical order.
+     */
+    public List<String> getExamLabels() {
+        return examLabels;
+    }
+
+    /**
+     * Returns a summary of every non-empty detail of the student, as shown in the results of commands.
+     */
+    public String getSummary() {
+        return summary;
+    }
+}
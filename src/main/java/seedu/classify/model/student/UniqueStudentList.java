@@ -2,9 +2,13 @@ package seedu.classify.model.student;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +23,9 @@ import seedu.classify.model.student.exceptions.StudentNotFoundException;
  * updated is unique in terms of identity in the UniqueStudentList. However, the removal of a student uses
  * Student#equals(Object) to ensure that the student with exactly the same fields will be removed.
  *
+ * Students are additionally indexed by {@code Name} and by {@code Id}, so that identity checks do not need to scan
+ * the whole list. Both indexes are kept in sync with the backing list by every mutating operation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Student#hasSameNameOrId(Student)
@@ -28,13 +35,17 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Student> nameIndex = new HashMap<>();
+    private final Map<Id, Student> idIndex = new HashMap<>();
+    // The comparator that the list is currently known to be sorted by, or null if the order is unknown
+    private Comparator<Student> knownOrder;
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameNameOrId);
+        return nameIndex.containsKey(toCheck.getStudentName()) || idIndex.containsKey(toCheck.getId());
     }
 
     /**
@@ -45,11 +56,23 @@ public class UniqueStudentList implements Iterable<Student> {
      * @return true if there is a matching student identity in the student record
      */
     public boolean excludesButContains(Student studentToExclude, Student studentToCheck) {
-        return internalList.stream().filter(s -> !s.equals(studentToExclude)).anyMatch(studentToCheck::hasSameNameOrId);
+        Student sameName = nameIndex.get(studentToCheck.getStudentName());
+        Student sameId = idIndex.get(studentToCheck.getId());
+        return (sameName != null && !sameName.equals(studentToExclude))
+                || (sameId != null && !sameId.equals(studentToExclude));
     }
 
+    /**
+     * Sorts the list with {@code studentComparator}.
+     * Nothing is done if the list is already known to be in that order, so that no change is published.
+     */
     public void sortList(Comparator<Student> studentComparator) {
+        requireNonNull(studentComparator);
+        if (studentComparator.equals(knownOrder)) {
+            return;
+        }
         internalList.sort(studentComparator);
+        knownOrder = studentComparator;
     }
 
     /**
@@ -62,6 +85,74 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+        if (!isInOrderAt(internalList.size() - 1)) {
+            knownOrder = null;
+        }
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, publishing them as a single change.
+     * None of the students may already exist in the list, and {@code toAdd} must not contain duplicate students.
+     */
+    public void addAll(List<Student> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        Map<Name, Student> addedNames = new HashMap<>();
+        Map<Id, Student> addedIds = new HashMap<>();
+        for (Student student : toAdd) {
+            if (contains(student) || addedNames.putIfAbsent(student.getStudentName(), student) != null
+                    || addedIds.putIfAbsent(student.getId(), student) != null) {
+                throw new DuplicateStudentException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        int firstAddedIndex = internalList.size();
+        internalList.addAll(toAdd);
+        nameIndex.putAll(addedNames);
+        idIndex.putAll(addedIds);
+        if (!isInOrderFrom(firstAddedIndex)) {
+            knownOrder = null;
+        }
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list as {@link #addAll(List)} does.
+     * An empty list is taken to be sorted by {@code studentComparator}, so the list is known to be in that order
+     * afterwards if {@code toAdd} are sorted by it.
+     */
+    public void addAll(List<Student> toAdd, Comparator<Student> studentComparator) {
+        requireNonNull(studentComparator);
+        if (internalList.isEmpty()) {
+            knownOrder = studentComparator;
+        }
+        addAll(toAdd);
+    }
+
+    /**
+     * Adds a student to the list at the position given by {@code studentComparator}.
+     * If the list is already sorted by {@code studentComparator}, the position is found by binary search and only
+     * the new student is inserted. Otherwise, the whole list is sorted after the student is added.
+     * The student must not already exist in the list.
+     */
+    public void addInOrder(Student toAdd, Comparator<Student> studentComparator) {
+        CollectionUtil.requireAllNonNull(toAdd, studentComparator);
+        if (contains(toAdd)) {
+            throw new DuplicateStudentException();
+        }
+        if (!studentComparator.equals(knownOrder)) {
+            internalList.add(toAdd);
+            addToIndexes(toAdd);
+            sortList(studentComparator);
+            return;
+        }
+
+        int searchResult = Collections.binarySearch(internalList, toAdd, studentComparator);
+        int insertionPoint = searchResult < 0 ? -searchResult - 1 : searchResult;
+        internalList.add(insertionPoint, toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -77,11 +168,16 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new StudentNotFoundException();
         }
 
-        if (!target.hasSameNameOrId(editedStudent) && contains(editedStudent)) {
+        if (excludesButContains(target, editedStudent)) {
             throw new DuplicateStudentException();
         }
 
         internalList.set(index, editedStudent);
+        removeFromIndexes(target);
+        addToIndexes(editedStudent);
+        if (!isInOrderAt(index)) {
+            knownOrder = null;
+        }
     }
 
     /**
@@ -93,11 +189,17 @@ public class UniqueStudentList implements Iterable<Student> {
         if (!internalList.remove(toRemove)) {
             throw new StudentNotFoundException();
         }
+        removeFromIndexes(toRemove);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        knownOrder = replacement.knownOrder;
     }
 
     /**
@@ -106,11 +208,34 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         CollectionUtil.requireAllNonNull(students);
-        if (!personsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        Map<Name, Student> newNameIndex = new HashMap<>();
+        Map<Id, Student> newIdIndex = new HashMap<>();
+        for (Student student : students) {
+            if (newNameIndex.putIfAbsent(student.getStudentName(), student) != null
+                    || newIdIndex.putIfAbsent(student.getId(), student) != null) {
+                throw new DuplicateStudentException();
+            }
         }
 
         internalList.setAll(students);
+        nameIndex.clear();
+        nameIndex.putAll(newNameIndex);
+        idIndex.clear();
+        idIndex.putAll(newIdIndex);
+        knownOrder = null;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code students}, sorted by {@code studentComparator}.
+     * The students are sorted before they are published, so the list only reports a single change.
+     * {@code students} must not contain duplicate students.
+     */
+    public void setStudents(List<Student> students, Comparator<Student> studentComparator) {
+        CollectionUtil.requireAllNonNull(students, studentComparator);
+        List<Student> sortedStudents = new ArrayList<>(students);
+        sortedStudents.sort(studentComparator);
+        setStudents(sortedStudents);
+        knownOrder = studentComparator;
     }
 
     /**
@@ -138,16 +263,49 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns true if the student at {@code index} is still ordered correctly relative to its neighbours under
+     * {@link #knownOrder}. Returns false if the order of the list is unknown.
      */
-    private boolean personsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).hasSameNameOrId(students.get(j))) {
-                    return false;
-                }
+    private boolean isInOrderAt(int index) {
+        if (knownOrder == null) {
+            return false;
+        }
+        Student student = internalList.get(index);
+        boolean isAfterPrevious = index == 0 || knownOrder.compare(internalList.get(index - 1), student) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1
+                || knownOrder.compare(student, internalList.get(index + 1)) <= 0;
+        return isAfterPrevious && isBeforeNext;
+    }
+
+    /**
+     * Returns true if the students from {@code index} to the end of the list are still ordered correctly under
+     * {@link #knownOrder}, including relative to the student before them.
+     */
+    private boolean isInOrderFrom(int index) {
+        if (knownOrder == null) {
+            return false;
+        }
+        for (int i = Math.max(index, 1); i < internalList.size(); i++) {
+            if (knownOrder.compare(internalList.get(i - 1), internalList.get(i)) > 0) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Registers {@code student} under its name and id.
+     */
+    private void addToIndexes(Student student) {
+        nameIndex.put(student.getStudentName(), student);
+        idIndex.put(student.getId(), student);
+    }
+
+    /**
+     * Unregisters {@code student} from the name and id indexes.
+     */
+    private void removeFromIndexes(Student student) {
+        nameIndex.remove(student.getStudentName(), student);
+        idIndex.remove(student.getId(), student);
+    }
 }
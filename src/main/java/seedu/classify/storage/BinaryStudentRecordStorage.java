@@ -0,0 +1,348 @@
+package seedu.classify.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.commons.exceptions.DataConversionException;
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.commons.util.FileUtil;
+import seedu.classify.model.ReadOnlyStudentRecord;
+import seedu.classify.model.StudentRecord;
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.Email;
+import seedu.classify.model.student.Id;
+import seedu.classify.model.student.Name;
+import seedu.classify.model.student.Phone;
+import seedu.classify.model.student.Student;
+import seedu.classify.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * A class to access StudentRecord data stored in a compact binary file on the hard disk.
+ * The file starts with a table of the distinct names, classes, phone numbers and emails, which the students then
+ * refer to by their position in the table. Ids are packed into two bytes and exam scores into one byte each.
+ * The file is mapped into memory when it is read, rather than copied into a buffer first.
+ * A json student record is converted when it is read, and saved in the binary format from then on. Files are told
+ * apart by the {@link #MAGIC_NUMBER} that every binary file starts with.
+ * <p>
+ * Layout (big-endian), version 1:
+ * <pre>
+ * int   MAGIC_NUMBER
+ * short FORMAT_VERSION
+ * int   number of strings, followed by each string as an unsigned short length and that many UTF-8 bytes
+ * int   number of students, followed by each student as
+ *       int studentName, short id, int className, int parentName, int phone, int email (string positions),
+ *       byte score of each exam in {@link Exam#getExamIndex(String)} order, or -1 if the student has no score
+ * </pre>
+ */
+public class BinaryStudentRecordStorage implements StudentRecordStorage {
+
+    public static final int MAGIC_NUMBER = 0x434C5346; // "CLSF"
+    public static final short FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not a Class-ify binary student record.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary student record version %d is not supported.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Student refers to a missing string.";
+    public static final String MESSAGE_STRING_TOO_LONG = "Student details longer than %d bytes cannot be saved.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStudentRecordStorage.class);
+    private static final byte NO_SCORE = -1;
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+    private static final int ID_DIGITS = 3;
+    private static final int ID_LETTERS = 26;
+    private static final int NUMBER_OF_IDS = 1000 * ID_LETTERS;
+
+    private final Path filePath;
+    // File the student record is read from instead of filePath, if it was saved to more recently
+    private final Path previousFilePath;
+
+    public BinaryStudentRecordStorage(Path filePath) {
+        this(filePath, filePath);
+    }
+
+    /**
+     * Creates a {@code BinaryStudentRecordStorage} that saves to {@code filePath}. If {@code previousFilePath} was
+     * saved to more recently than {@code filePath}, including before {@code filePath} is first saved, the student
+     * record is read from it instead, in either format, so that switching to the binary format keeps the existing
+     * student record.
+     */
+    public BinaryStudentRecordStorage(Path filePath, Path previousFilePath) {
+        requireNonNull(filePath);
+        requireNonNull(previousFilePath);
+        this.filePath = filePath;
+        this.previousFilePath = previousFilePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC_NUMBER}.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC_NUMBER;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getStudentRecordFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentRecord> readStudentRecord() throws DataConversionException, IOException {
+        return readStudentRecord(JournaledStudentRecordStorage.isPreviousFileNewer(filePath, previousFilePath)
+                ? previousFilePath
+                : filePath);
+    }
+
+    /**
+     * Similar to {@link #readStudentRecord()}.
+     * A file that is not in the binary format is read as a json student record, together with its journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyStudentRecord> readStudentRecord(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info("Converting json file " + filePath + " to the binary format");
+            return new JournaledStudentRecordStorage(filePath).readStudentRecord(filePath);
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer));
+        } catch (IllegalValueException | BufferUnderflowException e) {
+            logger.info("Binary file " + filePath + " is not in the correct format: " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts the binary student record in {@code buffer} into the model's {@code StudentRecord} object.
+     * Each distinct string is validated and converted only once, however many students refer to it.
+     *
+     * @throws IllegalValueException if the data is not in the binary format, or if there were any data constraints
+     *     violated.
+     * @throws BufferUnderflowException if the data ends early.
+     */
+    static StudentRecord decode(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readCount(buffer)];
+        byte[] bytes = new byte[MAX_STRING_LENGTH];
+        for (int i = 0; i < strings.length; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort());
+            buffer.get(bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, UTF_8);
+        }
+
+        Name[] names = new Name[strings.length];
+        Class[] classes = new Class[strings.length];
+        Phone[] phones = new Phone[strings.length];
+        Email[] emails = new Email[strings.length];
+        int studentCount = readCount(buffer);
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            Name studentName = decodeField(buffer.getInt(), strings, names, Name::isValidName, Name::new, null,
+                    Name.MESSAGE_CONSTRAINTS);
+            Id id = decodeId(buffer.getShort());
+            Class className = decodeField(buffer.getInt(), strings, classes, Class::isValidClassName, Class::new,
+                    null, Class.MESSAGE_CONSTRAINTS);
+            Name parentName = decodeField(buffer.getInt(), strings, names, Name::isValidName, Name::new, Name::new,
+                    Name.MESSAGE_CONSTRAINTS);
+            Phone phone = decodeField(buffer.getInt(), strings, phones, Phone::isValidPhone, Phone::new, Phone::new,
+                    Phone.MESSAGE_CONSTRAINTS);
+            Email email = decodeField(buffer.getInt(), strings, emails, Email::isValidEmail, Email::new, Email::new,
+                    Email.MESSAGE_CONSTRAINTS);
+            students.add(new Student(studentName, id, className, parentName, phone, email, decodeExams(buffer)));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+
+        StudentRecord studentRecord = new StudentRecord();
+        try {
+            studentRecord.loadStudents(students);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(JsonSerializableStudentRecord.MESSAGE_DUPLICATE_STUDENT);
+        }
+        return studentRecord;
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        // Every string and student takes up at least one byte, which bounds the count in a well-formed file
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the field for the string at {@code index}, converting the string with {@code toField} the first time
+     * it is needed.
+     *
+     * @param emptyField creates the field for an empty string, or null if the field cannot be empty.
+     */
+    private static <T> T decodeField(int index, String[] strings, T[] fields, Predicate<String> isValid,
+                                     Function<String, T> toField, Supplier<T> emptyField, String constraints)
+            throws IllegalValueException {
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        String value = strings[index];
+        if (value.isEmpty() && emptyField != null) {
+            return emptyField.get();
+        }
+        if (fields[index] == null) {
+            if (!isValid.test(value)) {
+                throw new IllegalValueException(constraints);
+            }
+            fields[index] = toField.apply(value);
+        }
+        return fields[index];
+    }
+
+    private static Id decodeId(short packedId) throws IllegalValueException {
+        if (packedId < 0 || packedId >= NUMBER_OF_IDS) {
+            throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+        }
+        int number = packedId / ID_LETTERS;
+        char[] id = new char[ID_DIGITS + 1];
+        for (int i = ID_DIGITS - 1; i >= 0; i--) {
+            id[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        id[ID_DIGITS] = (char) ('A' + packedId % ID_LETTERS);
+        return new Id(new String(id));
+    }
+
+    private static Set<Exam> decodeExams(ByteBuffer buffer) throws IllegalValueException {
+        Set<Exam> exams = new HashSet<>();
+        for (int examIndex = 0; examIndex < Exam.NUMBER_OF_EXAMS; examIndex++) {
+            byte score = buffer.get();
+            if (score == NO_SCORE) {
+                continue;
+            }
+            if (score < Exam.MIN_SCORE || score > Exam.MAX_SCORE) {
+                throw new IllegalValueException(Exam.MESSAGE_SCORE_CONSTRAINTS);
+            }
+            exams.add(new Exam(Exam.getExamName(examIndex), score));
+        }
+        return exams;
+    }
+
+    @Override
+    public void saveStudentRecord(ReadOnlyStudentRecord studentRecord) throws IOException {
+        saveStudentRecord(studentRecord, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudentRecord(ReadOnlyStudentRecord)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException {
+        requireNonNull(studentRecord);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            encode(studentRecord, out);
+        }
+    }
+
+    /**
+     * Writes {@code studentRecord} to {@code out} in the binary format.
+     */
+    static void encode(ReadOnlyStudentRecord studentRecord, DataOutputStream out) throws IOException {
+        List<Student> students = studentRecord.getStudentList();
+        Map<String, Integer> stringIndices = new LinkedHashMap<>();
+        for (Student student : students) {
+            stringIndices.putIfAbsent(student.getStudentName().fullName, stringIndices.size());
+            stringIndices.putIfAbsent(student.getClassName().className, stringIndices.size());
+            stringIndices.putIfAbsent(student.getParentName().fullName, stringIndices.size());
+            stringIndices.putIfAbsent(student.getPhone().value, stringIndices.size());
+            stringIndices.putIfAbsent(student.getEmail().value, stringIndices.size());
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(stringIndices.size());
+        for (String string : stringIndices.keySet()) {
+            byte[] bytes = string.getBytes(UTF_8);
+            if (bytes.length > MAX_STRING_LENGTH) {
+                throw new IOException(String.format(MESSAGE_STRING_TOO_LONG, MAX_STRING_LENGTH));
+            }
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(students.size());
+        for (Student student : students) {
+            out.writeInt(stringIndices.get(student.getStudentName().fullName));
+            out.writeShort(encodeId(student.getId()));
+            out.writeInt(stringIndices.get(student.getClassName().className));
+            out.writeInt(stringIndices.get(student.getParentName().fullName));
+            out.writeInt(stringIndices.get(student.getPhone().value));
+            out.writeInt(stringIndices.get(student.getEmail().value));
+            for (int examIndex = 0; examIndex < Exam.NUMBER_OF_EXAMS; examIndex++) {
+                String exam = Exam.getExamName(examIndex);
+                out.writeByte(student.hasExam(exam) ? student.getExamScore(exam) : NO_SCORE);
+            }
+        }
+    }
+
+    private static int encodeId(Id id) {
+        int number = Integer.parseInt(id.value.substring(0, ID_DIGITS));
+        return number * ID_LETTERS + (id.value.charAt(ID_DIGITS) - 'A');
+    }
+
+    @Override
+    public void syncStudentRecord() throws IOException {
+        if (FileUtil.isFileExists(filePath)) {
+            FileUtil.syncToDisk(filePath);
+        }
+    }
+
+}
@@ -0,0 +1,312 @@
+package seedu.classify.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.commons.exceptions.DataConversionException;
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.commons.util.FileUtil;
+import seedu.classify.commons.util.JsonUtil;
+import seedu.classify.model.ReadOnlyStudentRecord;
+import seedu.classify.model.StudentRecord;
+import seedu.classify.model.student.Student;
+import seedu.classify.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * A class to access StudentRecord data stored as a json snapshot file, followed by a journal of the changes made
+ * since the snapshot was written.
+ * Each save appends a single line describing the change to the journal, so the cost of a save depends on the size of
+ * the change rather than the size of the student record. Once the journal outgrows the snapshot, the snapshot is
+ * rewritten and the journal is started afresh.
+ * The snapshot has the same format as the file of {@link JsonStudentRecordStorage}. A binary student record is
+ * converted when it is read, and saved as a json snapshot from then on.
+ */
+public class JournaledStudentRecordStorage implements StudentRecordStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledStudentRecordStorage.class);
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final Path filePath;
+    // File the student record is read from instead of filePath, if it was saved to more recently
+    private final Path previousFilePath;
+
+    // The students last saved to filePath, or null if they are not known
+    private List<Student> savedStudents;
+    private long snapshotLength;
+    // Length of the valid part of the journal, or 0 if the journal does not belong to the snapshot
+    private long journalLength;
+
+    public JournaledStudentRecordStorage(Path filePath) {
+        this(filePath, filePath);
+    }
+
+    /**
+     * Creates a {@code JournaledStudentRecordStorage} that saves to {@code filePath}. If {@code previousFilePath} was
+     * saved to more recently than {@code filePath}, the student record is read from it instead, in either format, so
+     * that switching back from the binary format keeps the changes made since.
+     */
+    public JournaledStudentRecordStorage(Path filePath, Path previousFilePath) {
+        requireNonNull(filePath);
+        requireNonNull(previousFilePath);
+        this.filePath = filePath;
+        this.previousFilePath = previousFilePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getStudentRecordFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the student record should be read from {@code previousFilePath} rather than {@code filePath},
+     * which is when {@code previousFilePath} exists, and {@code filePath} either does not exist or was last saved to
+     * before it. The journal of a json file counts as part of that file.
+     */
+    static boolean isPreviousFileNewer(Path filePath, Path previousFilePath) throws IOException {
+        if (previousFilePath.equals(filePath) || !FileUtil.isFileExists(previousFilePath)) {
+            return false;
+        }
+        if (!FileUtil.isFileExists(filePath)) {
+            return true;
+        }
+        return getLastSavedTime(previousFilePath).compareTo(getLastSavedTime(filePath)) > 0;
+    }
+
+    private static FileTime getLastSavedTime(Path filePath) throws IOException {
+        FileTime lastSavedTime = Files.getLastModifiedTime(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (FileUtil.isFileExists(journalFilePath)) {
+            FileTime journalTime = Files.getLastModifiedTime(journalFilePath);
+            if (journalTime.compareTo(lastSavedTime) > 0) {
+                lastSavedTime = journalTime;
+            }
+        }
+        return lastSavedTime;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentRecord> readStudentRecord() throws DataConversionException, IOException {
+        return readStudentRecord(isPreviousFileNewer(filePath, previousFilePath) ? previousFilePath : filePath);
+    }
+
+    /**
+     * Similar to {@link #readStudentRecord()}.
+     * A change at the end of the journal that was not completely written is discarded. A file in the format of
+     * {@link BinaryStudentRecordStorage} is read as a binary student record.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyStudentRecord> readStudentRecord(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (BinaryStudentRecordStorage.isBinaryFile(filePath)) {
+            logger.info("Converting binary file " + filePath + " to the json format");
+            Optional<ReadOnlyStudentRecord> studentRecord = new BinaryStudentRecordStorage(filePath)
+                    .readStudentRecord(filePath);
+            if (filePath.equals(this.filePath)) {
+                // Forces the next save to write a json snapshot over the binary file
+                savedStudents = null;
+                journalLength = 0;
+            }
+            return studentRecord;
+        }
+
+        // The changes in the journal are positions in the list of students as it was saved, so they are applied to
+        // the students in the order of the snapshot, which is only sorted by name once they have all been applied
+        CRC32 checksum = new CRC32();
+        List<Student> students;
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+            students = JsonStudentRecordSerializer.readStudents(in);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Snapshot file " + filePath + " is not in the correct format: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        long validJournalLength = replayJournal(journalFilePath, checksum.getValue(), students);
+        StudentRecord studentRecord = new StudentRecord();
+        try {
+            studentRecord.loadStudents(students);
+        } catch (DuplicateStudentException e) {
+            logger.info("Student record in " + filePath + " and " + journalFilePath + " has duplicate students");
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableStudentRecord.MESSAGE_DUPLICATE_STUDENT));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedStudents = students;
+            snapshotLength = Files.size(filePath);
+            journalLength = validJournalLength;
+        }
+        return Optional.of(studentRecord);
+    }
+
+    /**
+     * Applies the changes in the journal at {@code journalFilePath} to {@code students}, if the journal belongs to
+     * the snapshot with the given {@code checksum}.
+     *
+     * @return the length of the part of the journal that was completely written, or 0 if the journal does not
+     *     belong to the snapshot.
+     */
+    private static long replayJournal(Path journalFilePath, long checksum, List<Student> students)
+            throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        int lineStart = 0;
+        for (int i = 0; i < journal.length; i++) {
+            if (journal[i] != LINE_SEPARATOR) {
+                continue;
+            }
+            String line = new String(journal, lineStart, i - lineStart, UTF_8);
+            try {
+                if (lineStart == 0 && JsonUtil.fromJsonString(line, Long.class) != checksum) {
+                    logger.info("Journal file " + journalFilePath + " belongs to an older snapshot, ignoring it");
+                    return 0;
+                } else if (lineStart > 0) {
+                    JsonUtil.fromJsonString(line, JsonAdaptedStudentRecordChange.class).applyTo(students);
+                }
+            } catch (IOException | IllegalValueException e) {
+                logger.info("Journal file " + journalFilePath + " is not in the correct format: " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+            lineStart = i + 1;
+        }
+
+        if (lineStart < journal.length) {
+            logger.warning("Discarding incomplete change at the end of journal file " + journalFilePath);
+        }
+        return lineStart;
+    }
+
+    @Override
+    public void saveStudentRecord(ReadOnlyStudentRecord studentRecord) throws IOException {
+        saveStudentRecord(studentRecord, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudentRecord(ReadOnlyStudentRecord)}.
+     * Only saves to the journal when {@code filePath} is the file path of this storage.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException {
+        requireNonNull(studentRecord);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath) || savedStudents == null || journalLength == 0) {
+            writeSnapshot(studentRecord, filePath);
+            return;
+        }
+
+        List<Student> students = new ArrayList<>(studentRecord.getStudentList());
+        JsonAdaptedStudentRecordChange change = new JsonAdaptedStudentRecordChange(savedStudents, students);
+        if (change.isEmpty()) {
+            return;
+        }
+
+        byte[] line = (JsonUtil.toCompactJsonString(change) + LINE_SEPARATOR).getBytes(UTF_8);
+        if (journalLength + line.length > snapshotLength) {
+            writeSnapshot(studentRecord, filePath);
+            return;
+        }
+        appendToJournal(line);
+        savedStudents = students;
+    }
+
+    /**
+     * Writes all students in {@code studentRecord} to a snapshot at {@code filePath}, and starts a new journal for
+     * it.
+     */
+    private void writeSnapshot(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException {
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            // Forces the next save to write a snapshot again if this one fails
+            savedStudents = null;
+        }
+
+        CRC32 checksum = new CRC32();
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = new CheckedOutputStream(Files.newOutputStream(filePath), checksum)) {
+            JsonStudentRecordSerializer.writeStudentRecord(studentRecord, out, false);
+        }
+        // The journal of the previous snapshot is ignored from here on, as its checksum no longer matches
+        byte[] header = (JsonUtil.toCompactJsonString(checksum.getValue()) + LINE_SEPARATOR).getBytes(UTF_8);
+        Files.write(getJournalFilePath(filePath), header);
+
+        if (isOwnFile) {
+            savedStudents = new ArrayList<>(studentRecord.getStudentList());
+            snapshotLength = Files.size(filePath);
+            journalLength = header.length;
+        }
+    }
+
+    /**
+     * Appends {@code line} to the journal, after discarding anything beyond its valid part.
+     */
+    private void appendToJournal(byte[] line) throws IOException {
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.WRITE)) {
+            channel.truncate(journalLength);
+            channel.position(journalLength);
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ioe) {
+            // Forces the next save to write a snapshot, in case the journal can no longer be written to
+            journalLength = 0;
+            throw ioe;
+        }
+        journalLength += line.length;
+    }
+
+    @Override
+    public void syncStudentRecord() throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (FileUtil.isFileExists(filePath)) {
+            FileUtil.syncToDisk(filePath);
+        }
+        if (FileUtil.isFileExists(journalFilePath)) {
+            FileUtil.syncToDisk(journalFilePath);
+        }
+    }
+
+}
@@ -39,10 +39,10 @@ class JsonAdaptedExam {
      * @throws IllegalValueException if there were any data constraints violated in the adapted exam.
      */
     public Exam toModelType() throws IllegalValueException {
-        if (!Exam.isValidFormat(exam)) {
+        String[] args = Exam.splitNameAndScore(exam);
+        if (args.length != 2) {
             throw new IllegalValueException(Exam.MESSAGE_CONSTRAINTS);
         }
-        String[] args = exam.split("\\s+");
         String name = args[0];
         String score = args[1];
         if (!Exam.isValidName(name)) {
@@ -51,7 +51,7 @@ class JsonAdaptedExam {
         if (!Exam.isValidScore(score)) {
             throw new IllegalValueException(Exam.MESSAGE_SCORE_CONSTRAINTS);
         }
-        return new Exam(exam);
+        return new Exam(name, Integer.parseInt(score));
     }
 
 }
@@ -0,0 +1,128 @@
+package seedu.classify.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.model.student.Student;
+
+/**
+ * Converts {@code JsonAdaptedStudent}s into the model's {@code Student}s on a fork/join pool.
+ * Students are collected into chunks as they are added, and each full chunk is converted while later students are
+ * still being read. The converted students are returned in the order they were added, so the result is the same as
+ * converting them one after another. Each chunk is dropped once it is converted, so only the chunks waiting to be
+ * converted are held as {@code JsonAdaptedStudent}s. Once an invalid student is found, the students after it are no
+ * longer converted.
+ */
+class JsonAdaptedStudentConverter {
+
+    public static final int CHUNK_SIZE = 256;
+    public static final String MESSAGE_INVALID_STUDENT = "Student %1$d: %2$s";
+
+    private final ForkJoinPool pool;
+    private final List<ConvertChunkTask> tasks = new ArrayList<>();
+    // Position of the first invalid student found so far, after which chunks stop converting
+    private final AtomicInteger firstInvalidIndex = new AtomicInteger(Integer.MAX_VALUE);
+    private List<JsonAdaptedStudent> currentChunk = new ArrayList<>(CHUNK_SIZE);
+    private int addedCount;
+
+    /**
+     * Creates a {@code JsonAdaptedStudentConverter} that converts students on the common fork/join pool.
+     */
+    public JsonAdaptedStudentConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@code JsonAdaptedStudentConverter} that converts students on {@code pool}.
+     */
+    public JsonAdaptedStudentConverter(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Adds {@code student} to be converted.
+     */
+    public void add(JsonAdaptedStudent student) {
+        requireNonNull(student);
+        currentChunk.add(student);
+        addedCount++;
+        if (currentChunk.size() == CHUNK_SIZE) {
+            ConvertChunkTask task = new ConvertChunkTask(currentChunk, addedCount - CHUNK_SIZE);
+            pool.execute(task);
+            tasks.add(task);
+            currentChunk = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Returns all added students converted into the model's {@code Student}s, in the order they were added.
+     * The last chunk, which is not full, is converted by the calling thread.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. Its message starts with the
+     *     position of the first invalid student, counting from 1.
+     */
+    public List<Student> getStudents() throws IllegalValueException {
+        if (!currentChunk.isEmpty()) {
+            ConvertChunkTask lastTask = new ConvertChunkTask(currentChunk, addedCount - currentChunk.size());
+            lastTask.invoke();
+            tasks.add(lastTask);
+            currentChunk = new ArrayList<>(CHUNK_SIZE);
+        }
+
+        List<Student> students = new ArrayList<>(addedCount);
+        try {
+            for (ConvertChunkTask task : tasks) {
+                students.addAll(task.join());
+                if (task.error != null) {
+                    throw task.error;
+                }
+            }
+        } finally {
+            // Chunks that are still waiting are no longer needed if a chunk failed, and finished ones are unaffected
+            tasks.forEach(task -> task.cancel(false));
+        }
+        return students;
+    }
+
+    /**
+     * Converts one chunk of students, stopping at the first invalid student, or once an invalid student has been found
+     * before the rest of the chunk.
+     */
+    private class ConvertChunkTask extends RecursiveTask<List<Student>> {
+        // Dropped once the chunk is converted, as the task is kept until all students are returned
+        private List<JsonAdaptedStudent> chunk;
+        private final int firstIndex;
+        private IllegalValueException error;
+
+        ConvertChunkTask(List<JsonAdaptedStudent> chunk, int firstIndex) {
+            this.chunk = chunk;
+            this.firstIndex = firstIndex;
+        }
+
+        @Override
+        protected List<Student> compute() {
+            List<JsonAdaptedStudent> toConvert = chunk;
+            chunk = null;
+            List<Student> students = new ArrayList<>(toConvert.size());
+            for (int i = 0; i < toConvert.size() && firstIndex + i < firstInvalidIndex.get(); i++) {
+                try {
+                    students.add(toConvert.get(i).toModelType());
+                } catch (IllegalValueException ive) {
+                    error = new IllegalValueException(
+                            String.format(MESSAGE_INVALID_STUDENT, firstIndex + i + 1, ive.getMessage()), ive);
+                    firstInvalidIndex.accumulateAndGet(firstIndex + i, Math::min);
+                    break;
+                }
+            }
+            return students;
+        }
+    }
+
+}
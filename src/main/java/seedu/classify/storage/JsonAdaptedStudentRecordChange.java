@@ -0,0 +1,89 @@
+package seedu.classify.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.model.student.Student;
+
+/**
+ * Jackson-friendly version of a change to the list of students in the student record.
+ * The {@code removed} students starting at {@code index} are replaced by the students in {@code added}, so that
+ * adding, editing and deleting a student, as well as clearing the record, are each described by one change.
+ */
+class JsonAdaptedStudentRecordChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Student record change does not match the list of students.";
+
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedStudent> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedStudentRecordChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedStudentRecordChange(@JsonProperty("index") int index, @JsonProperty("removed") int removed,
+                                          @JsonProperty("added") List<JsonAdaptedStudent> added) {
+        this.index = index;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts the difference between the students in {@code before} and {@code after} into this class for
+     * Jackson use. Only the students between the longest common prefix and the longest common suffix of both lists
+     * are part of the change.
+     */
+    public JsonAdaptedStudentRecordChange(List<Student> before, List<Student> after) {
+        int maxCommonLength = Math.min(before.size(), after.size());
+        int prefixLength = 0;
+        while (prefixLength < maxCommonLength && before.get(prefixLength).equals(after.get(prefixLength))) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < maxCommonLength - prefixLength
+                && before.get(before.size() - 1 - suffixLength).equals(after.get(after.size() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+
+        index = prefixLength;
+        removed = before.size() - prefixLength - suffixLength;
+        added.addAll(after.subList(prefixLength, after.size() - suffixLength).stream()
+                .map(JsonAdaptedStudent::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns true if this change leaves the list of students unchanged.
+     */
+    public boolean isEmpty() {
+        return removed == 0 && added.isEmpty();
+    }
+
+    /**
+     * Applies this change to {@code students}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code students}, or if there were any data
+     *     constraints violated in the added students.
+     */
+    public void applyTo(List<Student> students) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index > students.size() - removed) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+        List<Student> modelStudents = new ArrayList<>(added.size());
+        for (JsonAdaptedStudent jsonAdaptedStudent : added) {
+            modelStudents.add(jsonAdaptedStudent.toModelType());
+        }
+
+        students.subList(index, index + removed).clear();
+        students.addAll(index, modelStudents);
+    }
+
+}
@@ -12,6 +12,7 @@ import seedu.classify.commons.exceptions.IllegalValueException;
 import seedu.classify.model.ReadOnlyStudentRecord;
 import seedu.classify.model.StudentRecord;
 import seedu.classify.model.student.Student;
+import seedu.classify.model.student.exceptions.DuplicateStudentException;
 
 /**
  * An Immutable StudentRecord that is serializable to JSON format.
@@ -46,13 +47,15 @@ class JsonSerializableStudentRecord {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StudentRecord toModelType() throws IllegalValueException {
+        JsonAdaptedStudentConverter converter = new JsonAdaptedStudentConverter();
+        students.forEach(converter::add);
+        List<Student> modelStudents = converter.getStudents();
+
         StudentRecord studentRecord = new StudentRecord();
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (studentRecord.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            studentRecord.addStudent(student);
+        try {
+            studentRecord.loadStudents(modelStudents);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
         }
         return studentRecord;
     }
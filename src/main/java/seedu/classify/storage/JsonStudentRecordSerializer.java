@@ -0,0 +1,122 @@
+package seedu.classify.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.commons.util.JsonUtil;
+import seedu.classify.model.ReadOnlyStudentRecord;
+import seedu.classify.model.StudentRecord;
+import seedu.classify.model.student.Student;
+import seedu.classify.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * Reads and writes a student record in the JSON format of {@link JsonSerializableStudentRecord}, one student at a
+ * time, so that neither the file contents nor the adapted students of the whole record are held in memory at once.
+ * Students that have been read are converted by a {@link JsonAdaptedStudentConverter} while the rest are read.
+ */
+class JsonStudentRecordSerializer {
+
+    private static final String STUDENTS_FIELD = "students";
+
+    private JsonStudentRecordSerializer() {} // prevents instantiation
+
+    /**
+     * Reads a student record from {@code in}, converting the students in chunks as they are read.
+     * Fields other than the list of students are skipped. {@code in} is read to the end.
+     *
+     * @throws IOException if {@code in} cannot be read, or if it does not hold a student record in JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static StudentRecord readStudentRecord(InputStream in) throws IOException, IllegalValueException {
+        List<Student> students = readStudents(in);
+        StudentRecord studentRecord = new StudentRecord();
+        try {
+            studentRecord.loadStudents(students);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(JsonSerializableStudentRecord.MESSAGE_DUPLICATE_STUDENT);
+        }
+        return studentRecord;
+    }
+
+    /**
+     * Similar to {@link #readStudentRecord(InputStream)}, but returns the students in the order they were written,
+     * without checking for duplicate students.
+     */
+    public static List<Student> readStudents(InputStream in) throws IOException, IllegalValueException {
+        JsonAdaptedStudentConverter converter = new JsonAdaptedStudentConverter();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a student record");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                token = parser.nextToken();
+                if (fieldName.equals(STUDENTS_FIELD) && token == JsonToken.START_ARRAY) {
+                    readAdaptedStudents(parser, converter);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of student record");
+            }
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Unexpected content after student record");
+            }
+        }
+
+        return converter.getStudents();
+    }
+
+    private static void readAdaptedStudents(JsonParser parser, JsonAdaptedStudentConverter converter)
+            throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            converter.add(parser.readValueAs(JsonAdaptedStudent.class));
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Expected a student");
+        }
+    }
+
+    /**
+     * Writes {@code studentRecord} to {@code out}, converting each student just before it is written.
+     *
+     * @param isCompact true if the student record should be written without any line breaks or indentation.
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    public static void writeStudentRecord(ReadOnlyStudentRecord studentRecord, OutputStream out, boolean isCompact)
+            throws IOException {
+        writeStudentRecord(studentRecord, out, isCompact, studentsWritten -> {});
+    }
+
+    /**
+     * Similar to {@link #writeStudentRecord(ReadOnlyStudentRecord, OutputStream, boolean)}, but passes the number of
+     * students written so far to {@code progressListener} after each student is written.
+     */
+    public static void writeStudentRecord(ReadOnlyStudentRecord studentRecord, OutputStream out, boolean isCompact,
+            IntConsumer progressListener) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(STUDENTS_FIELD);
+            int studentsWritten = 0;
+            for (Student student : studentRecord.getStudentList()) {
+                generator.writeObject(new JsonAdaptedStudent(student));
+                progressListener.accept(++studentsWritten);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+}
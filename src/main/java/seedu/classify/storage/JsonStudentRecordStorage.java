@@ -3,28 +3,43 @@ package seedu.classify.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 import java.util.logging.Logger;
 
 import seedu.classify.commons.core.LogsCenter;
 import seedu.classify.commons.exceptions.DataConversionException;
 import seedu.classify.commons.exceptions.IllegalValueException;
 import seedu.classify.commons.util.FileUtil;
-import seedu.classify.commons.util.JsonUtil;
 import seedu.classify.model.ReadOnlyStudentRecord;
 
 /**
  * A class to access StudentRecord data stored as a json file on the hard disk.
+ * The file is read and written one student at a time, without holding its whole content in memory.
  */
 public class JsonStudentRecordStorage implements StudentRecordStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonStudentRecordStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonStudentRecordStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonStudentRecordStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact true if the file should be written without any line breaks or indentation.
+     */
+    public JsonStudentRecordStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getStudentRecordFilePath() {
@@ -45,14 +60,16 @@ public class JsonStudentRecordStorage implements StudentRecordStorage {
     public Optional<ReadOnlyStudentRecord> readStudentRecord(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableStudentRecord> jsonStudentRecord = JsonUtil.readJsonFile(
-                filePath, JsonSerializableStudentRecord.class);
-        if (!jsonStudentRecord.isPresent()) {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonStudentRecord.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(JsonStudentRecordSerializer.readStudentRecord(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -70,11 +87,30 @@ public class JsonStudentRecordStorage implements StudentRecordStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException {
+        saveStudentRecord(studentRecord, filePath, studentsWritten -> {});
+    }
+
+    /**
+     * Similar to {@link #saveStudentRecord(ReadOnlyStudentRecord, Path)}, but passes the number of students written
+     * so far to {@code progressListener} after each student is written.
+     */
+    public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath, IntConsumer progressListener)
+            throws IOException {
         requireNonNull(studentRecord);
         requireNonNull(filePath);
+        requireNonNull(progressListener);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudentRecord(studentRecord), filePath);
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonStudentRecordSerializer.writeStudentRecord(studentRecord, out, isCompact, progressListener);
+        }
+    }
+
+    @Override
+    public void syncStudentRecord() throws IOException {
+        if (FileUtil.isFileExists(filePath)) {
+            FileUtil.syncToDisk(filePath);
+        }
     }
 
 }
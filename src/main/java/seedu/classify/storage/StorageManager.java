@@ -76,4 +76,10 @@ public class StorageManager implements Storage {
         studentRecordStorage.saveStudentRecord(studentRecord, filePath);
     }
 
+    @Override
+    public void syncStudentRecord() throws IOException {
+        logger.fine("Attempting to sync data file: " + studentRecordStorage.getStudentRecordFilePath());
+        studentRecordStorage.syncStudentRecord();
+    }
+
 }
@@ -0,0 +1,114 @@
+package seedu.classify.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.classify.commons.core.LogsCenter;
+import seedu.classify.model.ReadOnlyStudentRecord;
+import seedu.classify.model.student.Student;
+
+/**
+ * Saves snapshots of the student record in the background, so that the caller does not wait for the file to be
+ * written.
+ * Only the latest snapshot is kept while a save is in progress: a burst of changes leads to a single write of the
+ * final state. A failed save is reported by {@link #takeSaveError()} instead of being thrown.
+ */
+public class StudentRecordSaver {
+    private static final Logger logger = LogsCenter.getLogger(StudentRecordSaver.class);
+
+    private final StudentRecordStorage storage;
+    private final Executor executor;
+    // The most recent snapshot that has not been written yet, if any
+    private final AtomicReference<ReadOnlyStudentRecord> pendingSnapshot = new AtomicReference<>();
+    private final AtomicReference<IOException> saveError = new AtomicReference<>();
+    // Held while writing, so that a flush never runs at the same time as a background save
+    private final Object writeLock = new Object();
+
+    /**
+     * Creates a {@code StudentRecordSaver} that saves to {@code storage} on a background thread.
+     */
+    public StudentRecordSaver(StudentRecordStorage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "student-record-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code StudentRecordSaver} that saves to {@code storage} using {@code executor}.
+     * {@code executor} should run one task at a time.
+     */
+    public StudentRecordSaver(StudentRecordStorage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a copy of the students in {@code studentRecord}, which can be saved while the student record itself
+     * continues to change. As students are immutable, only the list is copied.
+     */
+    public static ReadOnlyStudentRecord snapshotOf(ReadOnlyStudentRecord studentRecord) {
+        ObservableList<Student> students = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(studentRecord.getStudentList()));
+        return () -> students;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved, replacing any snapshot that is still waiting to be saved.
+     */
+    public void requestSave(ReadOnlyStudentRecord snapshot) {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::savePendingSnapshot);
+        }
+    }
+
+    private void savePendingSnapshot() {
+        synchronized (writeLock) {
+            ReadOnlyStudentRecord snapshot = pendingSnapshot.getAndSet(null);
+            if (snapshot == null) {
+                return;
+            }
+            try {
+                storage.saveStudentRecord(snapshot);
+            } catch (IOException ioe) {
+                logger.warning("Failed to save student record in the background: " + ioe);
+                saveError.set(ioe);
+            }
+        }
+    }
+
+    /**
+     * Returns the error of the most recent failed save since the last call, if any.
+     */
+    public Optional<IOException> takeSaveError() {
+        return Optional.ofNullable(saveError.getAndSet(null));
+    }
+
+    /**
+     * Writes any snapshot that is still waiting to be saved, and forces the student record file to be written to
+     * the storage device. Waits for a background save in progress to finish first.
+     *
+     * @throws IOException if the snapshot cannot be saved or the file cannot be synchronised.
+     */
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyStudentRecord snapshot = pendingSnapshot.getAndSet(null);
+            if (snapshot != null) {
+                storage.saveStudentRecord(snapshot);
+            }
+            storage.syncStudentRecord();
+        }
+    }
+}
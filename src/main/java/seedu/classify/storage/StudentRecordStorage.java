@@ -43,4 +43,10 @@ public interface StudentRecordStorage {
      */
     void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException;
 
+    /**
+     * Forces the saved StudentRecord data to be written to the storage device.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void syncStudentRecord() throws IOException;
+
 }
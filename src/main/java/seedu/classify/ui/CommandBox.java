@@ -1,5 +1,7 @@
 package seedu.classify.ui;
 
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -18,18 +20,24 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final Consumer<String> commandTextListener;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which passes the command text to
+     * {@code commandTextListener} whenever it changes, such as for searching as the user types.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, Consumer<String> commandTextListener) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandTextListener = commandTextListener;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused, oldText, newText) -> {
+            setStyleToDefault();
+            this.commandTextListener.accept(newText);
+        });
     }
 
     /**
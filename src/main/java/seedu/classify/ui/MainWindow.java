@@ -2,6 +2,7 @@ package seedu.classify.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -33,6 +34,7 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private StudentListPanel studentListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -115,14 +117,25 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        // Messages of background tasks, such as the progress of an export, arrive on a background thread
+        logic.setBackgroundTaskListener(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getStudentRecordFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getStudentRecordFilePath(), logic.isLoading());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand,
+                commandText -> logic.searchAsYouType(commandText, Platform::runLater));
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Clears the loading status and shows {@code message} once the student record has finished loading.
+     */
+    void showStudentRecordLoaded(String message) {
+        statusBarFooter.setLoading(false);
+        resultDisplay.setFeedbackToUser(message);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -12,17 +12,30 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String LOADING_STATUS = "Loading student record...";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label loadingStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows a loading status if
+     * {@code isLoading} is true.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, boolean isLoading) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        setLoading(isLoading);
+    }
+
+    /**
+     * Shows the loading status if {@code isLoading} is true, and hides it otherwise.
+     */
+    public void setLoading(boolean isLoading) {
+        loadingStatus.setText(isLoading ? LOADING_STATUS : "");
     }
 
 }
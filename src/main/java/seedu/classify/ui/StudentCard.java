@@ -1,14 +1,19 @@
 package seedu.classify.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.classify.model.student.Student;
+import seedu.classify.model.student.StudentDisplay;
 
 /**
  * A UI component that displays information of a {@code Student}.
@@ -25,7 +30,7 @@ public class StudentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Student student;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -49,61 +54,54 @@ public class StudentCard extends UiPart<Region> {
     private FlowPane exams;
 
     /**
-     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     * Creates an empty {@code StudentCard}, to be filled by {@link #setStudent(Student, int)}.
+     * The card's FXML is only loaded here, so a card can be reused for many students.
+     * The parent details are hidden whenever {@code conciseInfo} is true.
      */
-    public StudentCard(Student student, int displayedIndex, boolean conciseInfo) {
+    public StudentCard(ReadOnlyBooleanProperty conciseInfo) {
         super(FXML);
+        // bindings only hold weak references to conciseInfo, so cards that are no longer shown can be collected
+        BooleanBinding showsParentDetails = conciseInfo.not();
+        parentDetailsContainer.managedProperty().bind(showsParentDetails);
+        parentDetailsContainer.visibleProperty().bind(showsParentDetails);
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * Shows the given {@code Student} and index on this card, updating its labels in place.
+     */
+    public void setStudent(Student student, int displayedIndex) {
         this.student = student;
 
+        StudentDisplay display = student.getDisplay();
+
         // Set compulsory student details
         id.setText(displayedIndex + ". ");
-        studentId.setText(student.getId().toString());
-        studentName.setText(student.getStudentName().fullName);
-        className.setText(student.getClassName().className);
+        studentId.setText(display.getId());
+        studentName.setText(display.getStudentName());
+        className.setText(display.getClassName());
 
         // Set optional parent details
-        if (student.getParentName().fullName == "") {
-            parentName.setText("-");
-        } else {
-            parentName.setText(student.getParentName().fullName);
-        }
-        if (student.getPhone().value == "") {
-            phone.setText("-");
-        } else {
-            phone.setText(student.getPhone().value);
+        parentName.setText(display.getParentName());
+        phone.setText(display.getPhone());
+        email.setText(display.getEmail());
+
+        // Set exam grade details, reusing the labels of the previous student
+        List<String> examTexts = display.getExamLabels();
+        List<Node> examLabels = exams.getChildren();
+        for (int i = 0; i < examTexts.size(); i++) {
+            if (i < examLabels.size()) {
+                ((Label) examLabels.get(i)).setText(examTexts.get(i));
+            } else {
+                examLabels.add(new Label(examTexts.get(i)));
+            }
         }
-        if (student.getEmail().value == "") {
-            email.setText("-");
-        } else {
-            email.setText(student.getEmail().value);
+        if (examLabels.size() > examTexts.size()) {
+            examLabels.remove(examTexts.size(), examLabels.size());
         }
-
-        // Set exam grade details
-        student.getExams().stream()
-                .sorted(Comparator.comparing(exam -> exam.toString()))
-                .forEach(exam -> exams.getChildren().add(new Label(exam.toString())));
-
-        if (conciseInfo) {
-            showConciseInfo();
-        } else {
-            showAllInfo();
-        }
-    }
-
-    /**
-     * Updates PersonCard to show all info
-     */
-    public void showAllInfo() {
-        parentDetailsContainer.setManaged(true);
-        parentDetailsContainer.setVisible(true);
-    }
-
-    /**
-     * Updates PersonCard to only show student's name and ID
-     */
-    public void showConciseInfo() {
-        parentDetailsContainer.setManaged(false);
-        parentDetailsContainer.setVisible(false);
     }
 
     @Override
@@ -121,6 +119,6 @@ public class StudentCard extends UiPart<Region> {
         // state check
         StudentCard card = (StudentCard) other;
         return id.getText().equals(card.id.getText())
-                && student.equals(card.student);
+                && Objects.equals(student, card.student);
     }
 }
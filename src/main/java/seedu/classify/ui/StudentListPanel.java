@@ -33,9 +33,12 @@ public class StudentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentCard}.
+     * Each cell owns a single card, which is rebound to the cell's new student whenever the cell is reused, so that
+     * scrolling does not load FXML or build new cards.
      */
     class StudentListViewCell extends ListCell<Student> {
-        private FilteredStudents filteredStudents;
+        private final FilteredStudents filteredStudents;
+        private StudentCard studentCard;
 
         public StudentListViewCell(FilteredStudents filteredStudents) {
             this.filteredStudents = filteredStudents;
@@ -48,9 +51,16 @@ public class StudentListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new StudentCard(person, getIndex() + 1,
-                        this.filteredStudents.hasConciseInfo()).getRoot());
+                return;
+            }
+
+            // cards are created lazily, as some cells are never shown
+            if (studentCard == null) {
+                studentCard = new StudentCard(filteredStudents.conciseInfoProperty());
+            }
+            studentCard.setStudent(person, getIndex() + 1);
+            if (getGraphic() != studentCard.getRoot()) {
+                setGraphic(studentCard.getRoot());
             }
         }
     }
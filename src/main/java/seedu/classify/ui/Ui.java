@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows that the student record has finished loading, with the given {@code message}. */
+    void showStudentRecordLoaded(String message);
+
 }
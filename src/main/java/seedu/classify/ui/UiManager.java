@@ -50,6 +50,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showStudentRecordLoaded(String message) {
+        mainWindow.showStudentRecordLoaded(message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,76 @@
+package seedu.classify.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.classify.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_nullLine_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+
+    @Test
+    public void splitLine_unquotedFields_splitAtSeparators() throws Exception {
+        assertEquals(Collections.singletonList(""), CsvUtil.splitLine(""));
+        assertEquals(Collections.singletonList("Alice"), CsvUtil.splitLine("Alice"));
+        assertEquals(Arrays.asList("Alice", "123A", " 4A1 "), CsvUtil.splitLine("Alice,123A, 4A1 "));
+
+        // empty fields
+        assertEquals(Arrays.asList("", "123A", ""), CsvUtil.splitLine(",123A,"));
+    }
+
+    @Test
+    public void splitLine_quotedFields_quotesRemoved() throws Exception {
+        assertEquals(Arrays.asList("Pauline, Alice", "123A"), CsvUtil.splitLine("\"Pauline, Alice\",123A"));
+        assertEquals(Arrays.asList("", "123A"), CsvUtil.splitLine("\"\",123A"));
+        assertEquals(Arrays.asList("123A", "Pauline, Alice"), CsvUtil.splitLine("123A,\"Pauline, Alice\""));
+
+        // escaped quotes
+        assertEquals(Arrays.asList("say \"hi\"", "x"), CsvUtil.splitLine("\"say \"\"hi\"\"\",x"));
+
+        // quotes within an unquoted field are kept
+        assertEquals(Arrays.asList("a\"b", "c"), CsvUtil.splitLine("a\"b,c"));
+    }
+
+    @Test
+    public void splitLine_unclosedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, () ->
+                CsvUtil.splitLine("\"Alice,123A"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, () ->
+                CsvUtil.splitLine("Alice,\"say \"\""));
+    }
+
+    @Test
+    public void splitLine_textAfterQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.splitLine("\"Alice\" Pauline,123A"));
+    }
+
+    @Test
+    public void joinLine_nullFields_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.joinLine(null));
+    }
+
+    @Test
+    public void joinLine_fieldsNeedingQuotes_quoted() {
+        assertEquals("", CsvUtil.joinLine(Collections.emptyList()));
+        assertEquals("Alice,123A,", CsvUtil.joinLine(Arrays.asList("Alice", "123A", "")));
+        assertEquals("\"Pauline, Alice\",\"say \"\"hi\"\"\",\"two\nlines\"",
+                CsvUtil.joinLine(Arrays.asList("Pauline, Alice", "say \"hi\"", "two\nlines")));
+    }
+
+    @Test
+    public void joinLine_thenSplitLine_sameFields() throws Exception {
+        List<String> fields = Arrays.asList("Pauline, Alice", "", "say \"hi\"", "\"", ",", "4A1");
+        assertEquals(fields, CsvUtil.splitLine(CsvUtil.joinLine(fields)));
+    }
+}
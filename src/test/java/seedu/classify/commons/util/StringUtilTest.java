@@ -1,10 +1,13 @@
 package seedu.classify.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classify.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +57,15 @@ public class StringUtilTest {
      * The four test cases below test one invalid input at a time.
      */
 
+    @Test
+    public void splitWords() {
+        assertEquals(Collections.emptyList(), StringUtil.splitWords(""));
+        assertEquals(Collections.emptyList(), StringUtil.splitWords(" \t\n"));
+        assertEquals(Collections.singletonList("abc"), StringUtil.splitWords("abc"));
+        assertEquals(Arrays.asList("abc", "def", "g"), StringUtil.splitWords("  abc \t def\r\ng "));
+        assertThrows(NullPointerException.class, () -> StringUtil.splitWords(null));
+    }
+
     @Test
     public void containsWordIgnoreCase_nullWord_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> StringUtil.containsWordIgnoreCase("typical sentence", null));
@@ -140,4 +152,36 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for isAsciiDigits --------------------------------------
+
+    @Test
+    public void isAsciiDigits() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isAsciiDigits(null));
+
+        assertFalse(StringUtil.isAsciiDigits("")); // empty string
+        assertFalse(StringUtil.isAsciiDigits("1 2")); // spaces within digits
+        assertFalse(StringUtil.isAsciiDigits("-1")); // sign
+        assertFalse(StringUtil.isAsciiDigits("\u0663")); // non-ASCII digit
+
+        assertTrue(StringUtil.isAsciiDigits("0"));
+        assertTrue(StringUtil.isAsciiDigits("0123456789"));
+    }
+
+    //---------------- Tests for isAlphanumericWithSpaces --------------------------------------
+
+    @Test
+    public void isAlphanumericWithSpaces() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isAlphanumericWithSpaces(null));
+
+        assertFalse(StringUtil.isAlphanumericWithSpaces("")); // empty string
+        assertFalse(StringUtil.isAlphanumericWithSpaces(" abc")); // leading space
+        assertFalse(StringUtil.isAlphanumericWithSpaces("a\tb")); // other whitespace
+        assertFalse(StringUtil.isAlphanumericWithSpaces("a-b")); // symbol
+        assertFalse(StringUtil.isAlphanumericWithSpaces("\u00e9")); // non-ASCII letter
+
+        assertTrue(StringUtil.isAlphanumericWithSpaces("a"));
+        assertTrue(StringUtil.isAlphanumericWithSpaces("1"));
+        assertTrue(StringUtil.isAlphanumericWithSpaces("Peter Jack 2nd  "));
+    }
+
 }
@@ -0,0 +1,105 @@
+package seedu.classify.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.BENSON;
+import static seedu.classify.testutil.TypicalStudents.CARL;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+import static seedu.classify.testutil.TypicalStudents.HOON;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.model.Model;
+import seedu.classify.model.ModelManager;
+import seedu.classify.model.UserPrefs;
+import seedu.classify.model.student.Student;
+
+public class LiveSearchTest {
+
+    private final Model model = new ModelManager(getTypicalStudentRecord(), new UserPrefs());
+    private final ScheduledExecutorService searchExecutor = Executors.newSingleThreadScheduledExecutor();
+    private final LiveSearch liveSearch = new LiveSearch(model, searchExecutor, 0);
+    private final List<Runnable> modelTasks = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    public void tearDown() {
+        searchExecutor.shutdownNow();
+    }
+
+    @Test
+    public void search_findByName_showsMatchingStudents() throws Exception {
+        search("find nm/mei");
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredStudentList());
+
+        search("  find nm/ALI  car");
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void search_newerText_staleResultDropped() throws Exception {
+        liveSearch.search("find nm/alice", modelTasks::add);
+        search("find nm/carl");
+        assertEquals(Collections.singletonList(CARL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void search_notFindByName_previousStudentsShown() throws Exception {
+        search("find nm/carl");
+        search("find id/567F");
+        assertEquals(getTypicalStudentRecord().getStudentList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void search_sortedStudents_orderKeptAndRestored() throws Exception {
+        Comparator<Student> reversedOrder = Comparator.comparing((Student student) -> student.getId().toString())
+                .reversed();
+        model.sortFilteredStudentList(reversedOrder);
+        List<Student> sortedStudents = new ArrayList<>(model.getFilteredStudentList());
+
+        search("find nm/mei");
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredStudentList());
+
+        search("find nm/");
+        assertEquals(sortedStudents, model.getFilteredStudentList());
+    }
+
+    @Test
+    public void reset_commandExecutedAfterSearch_displayedStudentsKept() throws Exception {
+        search("find nm/carl");
+        liveSearch.reset();
+        search("");
+        assertEquals(Collections.singletonList(CARL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void search_studentRecordChanged_newStudentsFound() throws Exception {
+        search("find nm/hoon");
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+
+        model.addStudent(HOON);
+        search("find nm/hoon");
+        assertEquals(Collections.singletonList(HOON), model.getFilteredStudentList());
+    }
+
+    /**
+     * Searches for {@code commandText}, and waits for the search to finish before showing its result.
+     */
+    private void search(String commandText) throws Exception {
+        liveSearch.search(commandText, modelTasks::add);
+        // the search executor runs one task at a time, so this waits for the search to finish
+        searchExecutor.submit(() -> { }).get();
+        List<Runnable> tasks = new ArrayList<>(modelTasks);
+        modelTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
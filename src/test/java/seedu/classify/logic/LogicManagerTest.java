@@ -1,6 +1,8 @@
 package seedu.classify.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classify.commons.core.Messages.MESSAGE_INVALID_STUDENT_NAME;
 import static seedu.classify.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.classify.logic.commands.CommandTestUtil.CLASS_DESC_AMY;
@@ -11,27 +13,37 @@ import static seedu.classify.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.classify.logic.commands.CommandTestUtil.STUDENT_NAME_DESC_AMY;
 import static seedu.classify.testutil.Assert.assertThrows;
 import static seedu.classify.testutil.TypicalStudents.AMY;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.classify.logic.commands.AddStudentCommand;
 import seedu.classify.logic.commands.CommandResult;
+import seedu.classify.logic.commands.ExportCommand;
 import seedu.classify.logic.commands.ViewAllCommand;
 import seedu.classify.logic.commands.exceptions.CommandException;
 import seedu.classify.logic.parser.exceptions.ParseException;
 import seedu.classify.model.Model;
 import seedu.classify.model.ModelManager;
 import seedu.classify.model.ReadOnlyStudentRecord;
+import seedu.classify.model.StudentRecord;
 import seedu.classify.model.UserPrefs;
 import seedu.classify.model.student.Student;
 import seedu.classify.storage.JsonStudentRecordStorage;
 import seedu.classify.storage.JsonUserPrefsStorage;
 import seedu.classify.storage.StorageManager;
+import seedu.classify.storage.StudentRecordSaver;
 import seedu.classify.testutil.StudentBuilder;
 
 public class LogicManagerTest {
@@ -49,7 +61,7 @@ public class LogicManagerTest {
                 new JsonStudentRecordStorage(temporaryFolder.resolve("classify.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(studentRecordStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, new StudentRecordSaver(storage, Runnable::run));
     }
 
     @Test
@@ -71,14 +83,14 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_errorAddedToResult() throws Exception {
         // Setup LogicManager with JsonStudentRecordIoExceptionThrowingStub
         JsonStudentRecordStorage studentRecordStorage =
                 new JsonStudentRecordIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionStudentRecord.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(studentRecordStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, new StudentRecordSaver(storage, Runnable::run));
 
         // Execute add command
         String addCommand = AddStudentCommand.COMMAND_WORD + STUDENT_NAME_DESC_AMY + ID_DESC_AMY + CLASS_DESC_AMY
@@ -86,8 +98,238 @@ public class LogicManagerTest {
         Student expectedPerson = new StudentBuilder(AMY).withExams().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudent(expectedPerson);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        // the command has been executed, so it succeeds, and the failed save is added to its result
+        String expectedMessage = String.format(AddStudentCommand.MESSAGE_SUCCESS, expectedPerson) + "\n"
+                + LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_studentRecordUnchanged_savesOnlyOnce() throws Exception {
+        SaveCountingStorageStub studentRecordStorage =
+                new SaveCountingStorageStub(temporaryFolder.resolve("countedStudentRecord.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countedUserPrefs.json"));
+        logic = new LogicManager(model, new StudentRecordSaver(studentRecordStorage, Runnable::run));
+
+        logic.execute(ViewAllCommand.COMMAND_WORD);
+        logic.execute(ViewAllCommand.COMMAND_WORD);
+        assertEquals(1, studentRecordStorage.saveCount);
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + STUDENT_NAME_DESC_AMY + ID_DESC_AMY + CLASS_DESC_AMY
+                + PARENT_NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertEquals(2, studentRecordStorage.saveCount);
+
+        // nothing left to save
+        logic.flush();
+        assertEquals(2, studentRecordStorage.saveCount);
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_errorReportedOnNextCommand() throws Exception {
+        List<Runnable> scheduledSaves = new ArrayList<>();
+        JsonStudentRecordStorage studentRecordStorage =
+                new JsonStudentRecordIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionStudentRecord.json"));
+        logic = new LogicManager(model, new StudentRecordSaver(studentRecordStorage, scheduledSaves::add));
+
+        // the save is only scheduled, so the command succeeds
+        logic.execute(ViewAllCommand.COMMAND_WORD);
+        assertEquals(1, scheduledSaves.size());
+        scheduledSaves.remove(0).run();
+
+        String expectedMessage = ViewAllCommand.MESSAGE_SUCCESS + "\n" + LogicManager.FILE_OPS_ERROR_MESSAGE
+                + DUMMY_IO_EXCEPTION;
+        assertEquals(expectedMessage, logic.execute(ViewAllCommand.COMMAND_WORD).getFeedbackToUser());
+
+        // the failed save is retried after the next command
+        logic.execute(ViewAllCommand.COMMAND_WORD);
+        assertEquals(1, scheduledSaves.size());
+    }
+
+    @Test
+    public void flush_lastBackgroundSaveFailed_studentRecordSavedAgain() throws Exception {
+        List<Runnable> scheduledSaves = new ArrayList<>();
+        FailingOnceStorageStub studentRecordStorage =
+                new FailingOnceStorageStub(temporaryFolder.resolve("failingOnceStudentRecord.json"));
+        logic = new LogicManager(model, new StudentRecordSaver(studentRecordStorage, scheduledSaves::add));
+
+        logic.execute(ViewAllCommand.COMMAND_WORD);
+        scheduledSaves.remove(0).run();
+        assertEquals(1, studentRecordStorage.saveCount);
+
+        logic.flush();
+        assertEquals(2, studentRecordStorage.saveCount);
+        assertEquals(model.getStudentRecord(), new StudentRecord(studentRecordStorage.readStudentRecord().get()));
+    }
+
+    @Test
+    public void flush_saveFailsAgain_throwsIoException() throws Exception {
+        List<Runnable> scheduledSaves = new ArrayList<>();
+        JsonStudentRecordStorage studentRecordStorage =
+                new JsonStudentRecordIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionStudentRecord.json"));
+        logic = new LogicManager(model, new StudentRecordSaver(studentRecordStorage, scheduledSaves::add));
+
+        logic.execute(ViewAllCommand.COMMAND_WORD);
+        scheduledSaves.remove(0).run();
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.flush());
+    }
+
+    @Test
+    public void execute_commandWithBackgroundTask_taskRunByExecutor() throws Exception {
+        List<Runnable> scheduledTasks = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        JsonStudentRecordStorage studentRecordStorage =
+                new JsonStudentRecordStorage(temporaryFolder.resolve("classify.json"));
+        logic = new LogicManager(model, new StudentRecordSaver(studentRecordStorage, Runnable::run),
+                scheduledTasks::add);
+        logic.setBackgroundTaskListener(messages::add);
+        Path exportFilePath = temporaryFolder.resolve("students.csv");
+
+        // the export is only scheduled, so nothing is written yet
+        logic.execute(ExportCommand.COMMAND_WORD + " " + exportFilePath);
+        assertEquals(1, scheduledTasks.size());
+        assertFalse(Files.exists(exportFilePath));
+
+        scheduledTasks.remove(0).run();
+        assertTrue(Files.exists(exportFilePath));
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).startsWith("Exported 0 students to " + exportFilePath));
+    }
+
+    @Test
+    public void execute_backgroundTaskFails_errorPassedToListener() throws Exception {
+        List<String> messages = new ArrayList<>();
+        JsonStudentRecordStorage studentRecordStorage =
+                new JsonStudentRecordStorage(temporaryFolder.resolve("classify.json"));
+        logic = new LogicManager(model, new StudentRecordSaver(studentRecordStorage, Runnable::run), Runnable::run);
+        logic.setBackgroundTaskListener(messages::add);
+
+        // a directory cannot be written as a file
+        logic.execute(ExportCommand.COMMAND_WORD + " " + temporaryFolder.resolve("exports.csv"));
+        Files.createDirectory(temporaryFolder.resolve("directory.csv"));
+        logic.execute(ExportCommand.COMMAND_WORD + " " + temporaryFolder.resolve("directory.csv"));
+        logic.flush();
+
+        assertEquals(2, messages.size());
+        assertTrue(messages.get(1).startsWith("Could not export students to "
+                + temporaryFolder.resolve("directory.csv")));
+    }
+
+    @Test
+    public void loadStudentRecord_whileLoading_commandsRejectedAndNothingSaved() throws Exception {
+        List<Runnable> scheduledModelTasks = new ArrayList<>();
+        SaveCountingStorageStub studentRecordStorage =
+                new SaveCountingStorageStub(temporaryFolder.resolve("countedStudentRecord.json"));
+        logic = new LogicManager(model, new StudentRecordSaver(studentRecordStorage, Runnable::run), Runnable::run);
+
+        CompletableFuture<String> loaded = logic.loadStudentRecord(() -> getTypicalStudentRecord(),
+                scheduledModelTasks::add);
+        assertTrue(logic.isLoading());
+        assertCommandException(ViewAllCommand.COMMAND_WORD, LogicManager.MESSAGE_LOADING);
+        logic.flush();
+        assertEquals(0, studentRecordStorage.saveCount);
+
+        while (!scheduledModelTasks.isEmpty()) {
+            scheduledModelTasks.remove(0).run();
+        }
+        assertFalse(logic.isLoading());
+        assertTrue(loaded.get().startsWith("Loaded " + getTypicalStudentRecord().getStudentList().size()
+                + " students in "));
+        assertEquals(new ModelManager(getTypicalStudentRecord(), new UserPrefs()), model);
+
+        // the loaded students are already in the data file, which is only replaced once they are changed
+        logic.execute(ViewAllCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(0, studentRecordStorage.saveCount);
+        logic.execute(AddStudentCommand.COMMAND_WORD + STUDENT_NAME_DESC_AMY + ID_DESC_AMY + CLASS_DESC_AMY
+                + PARENT_NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertEquals(1, studentRecordStorage.saveCount);
+    }
+
+    @Test
+    public void loadStudentRecord_manyStudents_addedInChunks() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i <= LogicManager.LOAD_CHUNK_SIZE * 2; i++) {
+            students.add(new StudentBuilder().withStudentName("Student " + i)
+                    .withId(String.format("%03d%c", i % 1000, (char) ('A' + i / 1000))).build());
+        }
+        StudentRecord studentRecord = new StudentRecord();
+        studentRecord.loadStudents(students);
+        List<Runnable> scheduledModelTasks = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        logic = new LogicManager(model, new StudentRecordSaver(
+                new SaveCountingStorageStub(temporaryFolder.resolve("countedStudentRecord.json")), Runnable::run),
+                Runnable::run);
+        logic.setBackgroundTaskListener(messages::add);
+
+        logic.loadStudentRecord(() -> studentRecord, scheduledModelTasks::add);
+        // each chunk is added by its own task
+        scheduledModelTasks.remove(0).run();
+        assertEquals(LogicManager.LOAD_CHUNK_SIZE, model.getFilteredStudentList().size());
+        assertEquals(String.format(LogicManager.MESSAGE_LOADING_PROGRESS, LogicManager.LOAD_CHUNK_SIZE,
+                students.size()), messages.get(0));
+        while (!scheduledModelTasks.isEmpty()) {
+            scheduledModelTasks.remove(0).run();
+        }
+
+        assertEquals(2, messages.size());
+        assertEquals(studentRecord.getStudentList(), model.getStudentRecord().getStudentList());
+    }
+
+    @Test
+    public void loadStudentRecord_readerFails_emptyRecordUsableAndNotSaved() throws Exception {
+        List<Runnable> scheduledModelTasks = new ArrayList<>();
+        SaveCountingStorageStub studentRecordStorage =
+                new SaveCountingStorageStub(temporaryFolder.resolve("countedStudentRecord.json"));
+        logic = new LogicManager(model, new StudentRecordSaver(studentRecordStorage, Runnable::run), Runnable::run);
+
+        CompletableFuture<String> loaded = logic.loadStudentRecord(() -> {
+            throw new IllegalStateException("dummy failure");
+        }, scheduledModelTasks::add);
+        while (!scheduledModelTasks.isEmpty()) {
+            scheduledModelTasks.remove(0).run();
+        }
+
+        assertFalse(logic.isLoading());
+        assertTrue(loaded.isCompletedExceptionally());
+        Throwable cause = loaded.handle((message, throwable) -> throwable.getCause()).join();
+        assertTrue(cause instanceof CommandException);
+        assertEquals(String.format(LogicManager.MESSAGE_LOAD_FAILED, new IllegalStateException("dummy failure")),
+                cause.getMessage());
+
+        // the data file is only replaced once the student record is changed
+        logic.execute(ViewAllCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(0, studentRecordStorage.saveCount);
+        logic.execute(AddStudentCommand.COMMAND_WORD + STUDENT_NAME_DESC_AMY + ID_DESC_AMY + CLASS_DESC_AMY
+                + PARENT_NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertEquals(1, studentRecordStorage.saveCount);
+    }
+
+    @Test
+    public void loadStudentRecord_chunkFails_loadedStudentsRemoved() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < LogicManager.LOAD_CHUNK_SIZE; i++) {
+            students.add(new StudentBuilder().withStudentName("Student " + i)
+                    .withId(String.format("%03d%c", i % 1000, (char) ('A' + i / 1000))).build());
+        }
+        // the second chunk holds a duplicate of the first student
+        students.add(students.get(0));
+        ObservableList<Student> studentList = FXCollections.observableArrayList(students);
+        List<Runnable> scheduledModelTasks = new ArrayList<>();
+        logic = new LogicManager(model, new StudentRecordSaver(
+                new SaveCountingStorageStub(temporaryFolder.resolve("countedStudentRecord.json")), Runnable::run),
+                Runnable::run);
+
+        CompletableFuture<String> loaded = logic.loadStudentRecord(() -> () -> studentList,
+                scheduledModelTasks::add);
+        while (!scheduledModelTasks.isEmpty()) {
+            scheduledModelTasks.remove(0).run();
+        }
+
+        assertFalse(logic.isLoading());
+        assertTrue(loaded.isCompletedExceptionally());
+        assertEquals(new ModelManager(), model);
     }
 
     @Test
@@ -161,4 +403,40 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that throws an {@code IOException} the first time the save method is called.
+     */
+    private static class FailingOnceStorageStub extends JsonStudentRecordStorage {
+        private int saveCount;
+
+        private FailingOnceStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException {
+            if (saveCount++ == 0) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveStudentRecord(studentRecord, filePath);
+        }
+    }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class SaveCountingStorageStub extends JsonStudentRecordStorage {
+        private int saveCount;
+
+        private SaveCountingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException {
+            saveCount++;
+            super.saveStudentRecord(studentRecord, filePath);
+        }
+    }
 }
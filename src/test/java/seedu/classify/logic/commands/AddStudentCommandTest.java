@@ -10,6 +10,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,8 @@ import seedu.classify.model.Model;
 import seedu.classify.model.ReadOnlyStudentRecord;
 import seedu.classify.model.ReadOnlyUserPrefs;
 import seedu.classify.model.StudentRecord;
+import seedu.classify.model.exam.ExamStatistics;
+import seedu.classify.model.student.Class;
 import seedu.classify.model.student.Student;
 import seedu.classify.testutil.StudentBuilder;
 
@@ -117,6 +122,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudents(List<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudentRecord(ReadOnlyStudentRecord newData) {
             throw new AssertionError("This method should not be called.");
@@ -147,6 +157,41 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasClass(Class className) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> getStudentsInClass(Class className) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> getStudentsWithAnyNameWord(List<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> getStudentsWithAnyNamePrefix(List<String> prefixes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ExamStatistics getExamStatistics(Class className, String exam) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getHighestScorers(String exam, Optional<Class> className, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getLowestScorers(String exam, Optional<Class> className, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             throw new AssertionError("This method should not be called.");
@@ -158,8 +203,8 @@ public class AddStudentCommandTest {
         }
 
         @Override
-        public double calculateExamMean(String exam) {
-            throw new AssertionError("This method should not be called");
+        public void sortFilteredStudentList(Comparator<Student> comparator) {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
@@ -36,6 +36,18 @@ public class CommandResultTest {
 
         // different toggleView value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true, false)));
+
+        // different backgroundTask value -> returns false
+        BackgroundTask backgroundTask = progressListener -> "done";
+        assertFalse(commandResult.equals(new CommandResult("feedback", backgroundTask)));
+        assertTrue(new CommandResult("feedback", backgroundTask).equals(new CommandResult("feedback", backgroundTask)));
+    }
+
+    @Test
+    public void getBackgroundTask() {
+        BackgroundTask backgroundTask = progressListener -> "done";
+        assertFalse(new CommandResult("feedback").getBackgroundTask().isPresent());
+        assertEquals(backgroundTask, new CommandResult("feedback", backgroundTask).getBackgroundTask().get());
     }
 
     @Test
@@ -82,4 +94,11 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback", false, false, true);
         assertTrue(commandResult.isExit());
     }
+
+    @Test
+    public void withExtraFeedback() {
+        CommandResult commandResult = new CommandResult("feedback", false, false, true);
+        assertEquals(new CommandResult("feedback\nextra", false, false, true),
+                commandResult.withExtraFeedback("extra"));
+    }
 }
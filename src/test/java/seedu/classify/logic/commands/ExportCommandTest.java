@@ -0,0 +1,171 @@
+package seedu.classify.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.BENSON;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.classify.commons.core.Messages;
+import seedu.classify.logic.commands.ExportCommand.Format;
+import seedu.classify.logic.commands.exceptions.CommandException;
+import seedu.classify.model.Model;
+import seedu.classify.model.ModelManager;
+import seedu.classify.model.ReadOnlyStudentRecord;
+import seedu.classify.model.StudentRecord;
+import seedu.classify.model.UserPrefs;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.ClassPredicate;
+import seedu.classify.model.student.Student;
+import seedu.classify.storage.JournaledStudentRecordStorage;
+import seedu.classify.storage.JsonStudentRecordStorage;
+import seedu.classify.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    private static final String CSV_HEADER = "Name,ID,Class,Parent Name,Parent Phone,Parent Email,CA1,CA2,SA1,SA2";
+    private static final String CSV_ALICE = "ALICE PAULINE,123A,4A1,MAY PAULINE,94351253,ALICE.PAULINE@GMAIL.COM,"
+            + ",90,60,";
+    private static final String CSV_BENSON = "BENSON MEIER,345B,4A2,JOHNSON MEIER,98765432,BENSONMEIER@GMAIL.COM,"
+            + "90,,,60";
+
+    @TempDir
+    public Path tempDir;
+
+    private Model model = new ModelManager(getTypicalStudentRecord(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, Format.CSV, Optional.empty()));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(Paths.get("a.csv"), null, Optional.empty()));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(Paths.get("a.csv"), Format.CSV, null));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand firstCommand = new ExportCommand(Paths.get("a.csv"), Format.CSV, Optional.empty());
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new ExportCommand(Paths.get("a.csv"), Format.CSV, Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(firstCommand.equals(new ExportCommand(Paths.get("b.csv"), Format.CSV, Optional.empty())));
+
+        // different format -> returns false
+        assertFalse(firstCommand.equals(new ExportCommand(Paths.get("a.csv"), Format.JSON, Optional.empty())));
+
+        // different class -> returns false
+        assertFalse(firstCommand.equals(
+                new ExportCommand(Paths.get("a.csv"), Format.CSV, Optional.of(new Class("4A1")))));
+    }
+
+    @Test
+    public void execute_displayedStudentsToCsv_writtenByBackgroundTask() throws Exception {
+        Path exportFilePath = tempDir.resolve("exports").resolve("students.csv");
+        model.updateFilteredStudentList(student -> student.equals(ALICE) || student.equals(BENSON));
+
+        CommandResult result = new ExportCommand(exportFilePath, Format.CSV, Optional.empty()).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING, 2, exportFilePath), result.getFeedbackToUser());
+        // nothing is written until the background task runs
+        assertFalse(Files.exists(exportFilePath));
+
+        // later changes to the model are not exported
+        model.deleteStudent(ALICE);
+        String feedback = result.getBackgroundTask().get().run(message -> {});
+
+        assertTrue(feedback.startsWith("Exported 2 students to " + exportFilePath));
+        assertEquals(Arrays.asList(CSV_HEADER, CSV_ALICE, CSV_BENSON), Files.readAllLines(exportFilePath));
+    }
+
+    @Test
+    public void execute_classToJson_readableAsStudentRecord() throws Exception {
+        Path exportFilePath = tempDir.resolve("4A1.json");
+        Class className = new Class("4A1");
+
+        CommandResult result = new ExportCommand(exportFilePath, Format.JSON, Optional.of(className)).execute(model);
+        result.getBackgroundTask().get().run(message -> {});
+
+        ReadOnlyStudentRecord exportedRecord = new JsonStudentRecordStorage(exportFilePath).readStudentRecord().get();
+        List<Student> expectedStudents = new ArrayList<>(model.getStudentsInClass(className));
+        assertEquals(expectedStudents.size(), exportedRecord.getStudentList().size());
+        assertTrue(exportedRecord.getStudentList().containsAll(expectedStudents));
+        assertTrue(exportedRecord.getStudentList().stream().allMatch(new ClassPredicate(className)));
+    }
+
+    @Test
+    public void execute_manyStudents_progressReported() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i <= ExportCommand.PROGRESS_INTERVAL; i++) {
+            students.add(new StudentBuilder().withStudentName("Student " + i)
+                    .withId(String.format("%03d%c", i % 1000, (char) ('A' + i / 1000))).build());
+        }
+        StudentRecord studentRecord = new StudentRecord();
+        studentRecord.loadStudents(students);
+        Path exportFilePath = tempDir.resolve("students.csv");
+        List<String> progressMessages = new ArrayList<>();
+
+        new ExportCommand(exportFilePath, Format.CSV, Optional.empty())
+                .execute(new ModelManager(studentRecord, new UserPrefs()))
+                .getBackgroundTask().get().run(progressMessages::add);
+
+        assertEquals(Arrays.asList(String.format(ExportCommand.MESSAGE_PROGRESS, ExportCommand.PROGRESS_INTERVAL,
+                students.size(), exportFilePath)), progressMessages);
+        assertEquals(students.size() + 1, Files.readAllLines(exportFilePath).size());
+    }
+
+    @Test
+    public void execute_classNotFound_throwsCommandException() {
+        ExportCommand exportCommand = new ExportCommand(tempDir.resolve("students.csv"), Format.CSV,
+                Optional.of(new Class("9Z9")));
+        assertCommandFailure(exportCommand, model, Messages.MESSAGE_STUDENT_CLASS_NOT_FOUND);
+    }
+
+    @Test
+    public void execute_dataFile_throwsCommandException() {
+        Path dataFilePath = tempDir.resolve("classify.json");
+        model.setStudentRecordFilePath(dataFilePath);
+
+        Path sameFilePath = tempDir.resolve("exports").resolve("..").resolve("classify.json");
+        assertCommandFailure(new ExportCommand(sameFilePath, Format.JSON, Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_DATA_FILE, sameFilePath));
+
+        Path journalFilePath = JournaledStudentRecordStorage.getJournalFilePath(dataFilePath);
+        assertCommandFailure(new ExportCommand(journalFilePath, Format.CSV, Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_DATA_FILE, journalFilePath));
+        assertFalse(Files.exists(dataFilePath));
+    }
+
+    @Test
+    public void execute_unwritableFile_backgroundTaskThrowsCommandException() throws Exception {
+        // a directory cannot be written as a file
+        CommandResult result = new ExportCommand(tempDir, Format.CSV, Optional.empty()).execute(model);
+        assertThrows(CommandException.class, () -> result.getBackgroundTask().get().run(message -> {}));
+    }
+}
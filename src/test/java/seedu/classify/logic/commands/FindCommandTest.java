@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classify.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.classify.commons.core.Messages.MESSAGE_SINGLE_PERSON_LISTED_OVERVIEW;
 import static seedu.classify.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.classify.testutil.TypicalStudents.BENSON;
 import static seedu.classify.testutil.TypicalStudents.CARL;
 import static seedu.classify.testutil.TypicalStudents.ELLE;
 import static seedu.classify.testutil.TypicalStudents.FIONA;
@@ -13,6 +14,7 @@ import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +22,8 @@ import seedu.classify.model.Model;
 import seedu.classify.model.ModelManager;
 import seedu.classify.model.UserPrefs;
 import seedu.classify.model.student.NameContainsKeywordsPredicate;
+import seedu.classify.model.student.Student;
+import seedu.classify.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -86,6 +90,38 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_studentsEdited_findsEditedNames() {
+        Student renamedCarl = new StudentBuilder(CARL).withStudentName("Fiona Kurz").build();
+        model.setStudent(CARL, renamedCarl);
+        expectedModel.setStudent(CARL, renamedCarl);
+        model.deleteStudent(FIONA);
+        expectedModel.deleteStudent(FIONA);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Fiona Elle");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(renamedCarl, ELLE), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_studentsChangedAfterFind_displayedStudentsStillMatch() {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+
+        Student elleTan = new StudentBuilder().withStudentName("Elle Tan").withId("999Z").build();
+        model.addStudents(Collections.singletonList(elleTan));
+        Student bensonKurz = new StudentBuilder(BENSON).withStudentName("Benson Kurz").build();
+        model.setStudent(BENSON, bensonKurz);
+        Student carlTan = new StudentBuilder(CARL).withStudentName("Carl Tan").build();
+        model.setStudent(CARL, carlTan);
+
+        // the filter is applied to the students added and edited, as the find command would
+        assertEquals(new HashSet<>(Arrays.asList(bensonKurz, ELLE, FIONA, elleTan)),
+                new HashSet<>(model.getFilteredStudentList()));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,208 @@
+package seedu.classify.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.classify.commons.core.Messages;
+import seedu.classify.logic.commands.exceptions.CommandException;
+import seedu.classify.logic.parser.StudentCsvParser;
+import seedu.classify.model.Model;
+import seedu.classify.model.ModelManager;
+import seedu.classify.model.UserPrefs;
+import seedu.classify.model.student.Student;
+import seedu.classify.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final String HEADER = "Name,ID,Class,Parent Name,Parent Phone,Parent Email,CA1,CA2,SA1,SA2";
+
+    @TempDir
+    public Path tempDir;
+
+    private Model model = new ModelManager(getTypicalStudentRecord(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand firstCommand = new ImportCommand(Paths.get("scores.csv"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new ImportCommand(Paths.get("scores.csv"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(firstCommand.equals(new ImportCommand(Paths.get("other.csv"))));
+    }
+
+    @Test
+    public void getRejectFilePath() {
+        assertEquals(Paths.get("data", "scores.rejected.csv"),
+                ImportCommand.getRejectFilePath(Paths.get("data", "scores.csv")));
+        assertEquals(Paths.get("scores.rejected.csv"), ImportCommand.getRejectFilePath(Paths.get("scores")));
+    }
+
+    @Test
+    public void execute_newAndScoreRows_studentRecordChangedOnce() throws Exception {
+        Path csvFilePath = writeCsv(HEADER,
+                "Amy Bee,498C,20A68,\"Jenny Bee\",,,50,,,",
+                "",
+                ",123A,,,,,70,,,",
+                ",498C,,,,,,,,80");
+        int[] changeCount = {0};
+        model.getStudentRecord().getStudentList().addListener((ListChangeListener<Student>) change ->
+                changeCount[0]++);
+
+        CommandResult result = new ImportCommand(csvFilePath).execute(model);
+
+        Student expectedAmy = new StudentBuilder().withStudentName("Amy Bee").withId("498C").withClassName("20A68")
+                .withParentName("Jenny Bee").withPhone("").withEmail("").withExams("CA1 50", "SA2 80").build();
+        Student expectedAlice = new StudentBuilder(ALICE).withExams("CA1 70", "CA2 90", "SA1 60").build();
+        assertTrue(result.getFeedbackToUser().startsWith("Imported 3 rows from " + csvFilePath));
+        assertTrue(result.getFeedbackToUser().endsWith("1 students added, 1 students updated."));
+        assertTrue(model.getStudentRecord().getStudentList().contains(expectedAmy));
+        assertTrue(model.getStudentRecord().getStudentList().contains(expectedAlice));
+        assertEquals(1, changeCount[0]);
+        assertFalse(Files.exists(ImportCommand.getRejectFilePath(csvFilePath)));
+    }
+
+    @Test
+    public void execute_invalidRows_rowsRejected() throws Exception {
+        Path csvFilePath = writeCsv(HEADER,
+                ",999Z,,,,,70,,,",
+                "Amy Bee,498C",
+                ALICE.getStudentName() + ",498C,20A68",
+                ",123A,,,,,101,,,",
+                "\"Amy Bee,498C,20A68",
+                ",345B,,,,,,,,65");
+        int[] changeCount = {0};
+        model.getStudentRecord().getStudentList().addListener((ListChangeListener<Student>) change ->
+                changeCount[0]++);
+
+        CommandResult result = new ImportCommand(csvFilePath).execute(model);
+
+        Path rejectFilePath = ImportCommand.getRejectFilePath(csvFilePath);
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 5, rejectFilePath)));
+        assertTrue(model.getStudentRecord().getStudentList().contains(new StudentBuilder()
+                .withStudentName("Benson Meier").withId("345B").withClassName("4A2").withParentName("Johnson Meier")
+                .withPhone("98765432").withEmail("bensonmeier@gmail.com").withExams("CA1 90", "SA2 65").build()));
+        assertEquals(1, changeCount[0]);
+
+        List<String> expectedRejectFile = Arrays.asList(HEADER + ",Error",
+                ",999Z,,,,,70,,,,Line 2: " + Messages.MESSAGE_INVALID_STUDENT_ID,
+                "Amy Bee,498C,Line 3: " + ImportCommand.MESSAGE_MISSING_NAME_OR_CLASS,
+                ALICE.getStudentName() + ",498C,20A68,Line 4: " + AddStudentCommand.MESSAGE_DUPLICATE_PERSON,
+                ",123A,,,,,101,,,,Line 5: Exam score should be a number between 0 to 100.",
+                "\"Amy Bee,498C,20A68,Line 6: A quoted field is not closed.");
+        assertEquals(expectedRejectFile, Files.readAllLines(rejectFilePath));
+    }
+
+    @Test
+    public void execute_allRowsRejected_studentRecordUnchanged() throws Exception {
+        Path csvFilePath = writeCsv("ID,SA1", "999Z,70");
+        int[] changeCount = {0};
+        model.getStudentRecord().getStudentList().addListener((ListChangeListener<Student>) change ->
+                changeCount[0]++);
+
+        CommandResult result = new ImportCommand(csvFilePath).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Imported 0 rows"));
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void execute_rowsOverManyBatches_allRowsJoinedInOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int newStudentCount = 2500;
+        for (int i = 0; i < newStudentCount; i++) {
+            lines.add("Student " + i + "," + String.format("%03d%c", i % 1000, (char) ('P' + i / 1000)) + ",20A68");
+        }
+        // the score row of the first student is joined after the row that adds it, although in a later batch
+        lines.add(",000P,,,,,,,,75");
+        lines.add(",999Z,,,,,70,,,");
+        Path csvFilePath = writeCsv(lines.toArray(new String[0]));
+
+        CommandResult result = new ImportCommand(csvFilePath).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Imported " + (newStudentCount + 1) + " rows"));
+        assertEquals(getTypicalStudentRecord().getStudentList().size() + newStudentCount,
+                model.getStudentRecord().getStudentList().size());
+        assertTrue(model.getStudentRecord().getStudentList().contains(new StudentBuilder()
+                .withStudentName("Student 0").withId("000P").withClassName("20A68").withParentName("").withPhone("")
+                .withEmail("").withExams("SA2 75").build()));
+        assertEquals(Arrays.asList(HEADER + ",Error",
+                ",999Z,,,,,70,,,,Line " + (newStudentCount + 3) + ": " + Messages.MESSAGE_INVALID_STUDENT_ID),
+                Files.readAllLines(ImportCommand.getRejectFilePath(csvFilePath)));
+    }
+
+    @Test
+    public void execute_noRejectedRows_earlierRejectFileDeleted() throws Exception {
+        Path csvFilePath = writeCsv(HEADER, ",123A,,,,,70,,,");
+        Path rejectFilePath = ImportCommand.getRejectFilePath(csvFilePath);
+        Files.write(rejectFilePath, Arrays.asList(HEADER + ",Error", ",123A,,,,,101,,,,Line 2: invalid score"));
+
+        CommandResult result = new ImportCommand(csvFilePath).execute(model);
+
+        assertFalse(result.getFeedbackToUser().contains(rejectFilePath.toString()));
+        assertFalse(Files.exists(rejectFilePath));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws Exception {
+        Path csvFilePath = writeCsv("Name,Class", "Amy Bee,20A68");
+        assertCommandFailure(new ImportCommand(csvFilePath), model, String.format(ImportCommand.MESSAGE_INVALID_HEADER,
+                csvFilePath, StudentCsvParser.MESSAGE_MISSING_ID_COLUMN));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path csvFilePath = writeCsv("", " ");
+        assertCommandFailure(new ImportCommand(csvFilePath), model,
+                String.format(ImportCommand.MESSAGE_EMPTY_FILE, csvFilePath));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportCommand importCommand = new ImportCommand(tempDir.resolve("missing.csv"));
+        assertThrows(CommandException.class, () -> importCommand.execute(model));
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path csvFilePath = tempDir.resolve("students.csv");
+        Files.write(csvFilePath, Arrays.asList(lines));
+        return csvFilePath;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.classify.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.commons.core.Messages.MESSAGE_STUDENT_CLASS_NOT_FOUND;
+import static seedu.classify.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.classify.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.classify.logic.commands.RankCommand.MESSAGE_HIGHEST_SCORERS;
+import static seedu.classify.logic.commands.RankCommand.MESSAGE_IN_CLASS;
+import static seedu.classify.logic.commands.RankCommand.MESSAGE_LOWEST_SCORERS;
+import static seedu.classify.logic.commands.RankCommand.MESSAGE_NO_SCORES;
+import static seedu.classify.logic.commands.RankCommand.MESSAGE_RANKED_STUDENT;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.model.Model;
+import seedu.classify.model.ModelManager;
+import seedu.classify.model.UserPrefs;
+import seedu.classify.model.student.Class;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RankCommand}.
+ */
+public class RankCommandTest {
+    private Model model = new ModelManager(getTypicalStudentRecord(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalStudentRecord(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        RankCommand firstCommand = new RankCommand("SA1", Optional.of(new Class("4A1")), 3, true);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new RankCommand("SA1", Optional.of(new Class("4A1")), 3, true)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different class -> returns false
+        assertFalse(firstCommand.equals(new RankCommand("SA1", Optional.empty(), 3, true)));
+
+        // different count -> returns false
+        assertFalse(firstCommand.equals(new RankCommand("SA1", Optional.of(new Class("4A1")), 4, true)));
+
+        // different direction -> returns false
+        assertFalse(firstCommand.equals(new RankCommand("SA1", Optional.of(new Class("4A1")), 3, false)));
+    }
+
+    @Test
+    public void execute_noClassFound_throwsCommandException() {
+        RankCommand command = new RankCommand("SA1", Optional.of(new Class("9Z9")), 3, true);
+        assertCommandFailure(command, model, MESSAGE_STUDENT_CLASS_NOT_FOUND);
+    }
+
+    @Test
+    public void execute_highestInWholeRecord_success() {
+        String expectedMessage = String.format(MESSAGE_HIGHEST_SCORERS, "SA1", "")
+                + String.format(MESSAGE_RANKED_STUDENT, 1, DANIEL.getStudentName(), 90);
+        RankCommand command = new RankCommand("SA1", Optional.empty(), 1, true);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_lowestInWholeRecord_success() {
+        String expectedMessage = String.format(MESSAGE_LOWEST_SCORERS, "SA1", "")
+                + String.format(MESSAGE_RANKED_STUDENT, 1, ALICE.getStudentName(), 60)
+                + String.format(MESSAGE_RANKED_STUDENT, 2, DANIEL.getStudentName(), 90);
+        RankCommand command = new RankCommand("SA1", Optional.empty(), 10, false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_hugeCount_success() {
+        String expectedMessage = String.format(MESSAGE_LOWEST_SCORERS, "SA1", "")
+                + String.format(MESSAGE_RANKED_STUDENT, 1, ALICE.getStudentName(), 60)
+                + String.format(MESSAGE_RANKED_STUDENT, 2, DANIEL.getStudentName(), 90);
+        RankCommand command = new RankCommand("SA1", Optional.empty(), 2000000000, false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_lowestInClass_success() {
+        String scope = String.format(MESSAGE_IN_CLASS, "3A1");
+        String expectedMessage = String.format(MESSAGE_LOWEST_SCORERS, "CA1", scope)
+                + String.format(MESSAGE_RANKED_STUDENT, 1, DANIEL.getStudentName(), 50);
+        RankCommand command = new RankCommand("CA1", Optional.of(new Class("3A1")), 2, false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noScoresInClass_success() {
+        String expectedMessage = String.format(MESSAGE_NO_SCORES, "CA1", String.format(MESSAGE_IN_CLASS, "4B1"));
+        RankCommand command = new RankCommand("CA1", Optional.of(new Class("4B1")), 2, true);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+}
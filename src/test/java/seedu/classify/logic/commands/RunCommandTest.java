@@ -0,0 +1,216 @@
+package seedu.classify.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.logic.commands.CommandTestUtil.CLASS_DESC_AMY;
+import static seedu.classify.logic.commands.CommandTestUtil.CLASS_DESC_BOB;
+import static seedu.classify.logic.commands.CommandTestUtil.ID_DESC_AMY;
+import static seedu.classify.logic.commands.CommandTestUtil.ID_DESC_BOB;
+import static seedu.classify.logic.commands.CommandTestUtil.STUDENT_NAME_DESC_AMY;
+import static seedu.classify.logic.commands.CommandTestUtil.STUDENT_NAME_DESC_BOB;
+import static seedu.classify.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.AMY;
+import static seedu.classify.testutil.TypicalStudents.BOB;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.classify.commons.core.Messages;
+import seedu.classify.logic.commands.exceptions.CommandException;
+import seedu.classify.model.Model;
+import seedu.classify.model.ModelManager;
+import seedu.classify.model.UserPrefs;
+import seedu.classify.model.student.Student;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunCommand}.
+ */
+public class RunCommandTest {
+
+    private static final String ADD_AMY = AddStudentCommand.COMMAND_WORD + STUDENT_NAME_DESC_AMY + ID_DESC_AMY
+            + CLASS_DESC_AMY;
+    private static final String ADD_BOB = AddStudentCommand.COMMAND_WORD + STUDENT_NAME_DESC_BOB + ID_DESC_BOB
+            + CLASS_DESC_BOB;
+    private static final String DELETE_ALICE = DeleteCommand.COMMAND_WORD + " id/" + ALICE.getId();
+
+    @TempDir
+    public Path tempDir;
+
+    private Model model = new ModelManager(getTypicalStudentRecord(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        RunCommand firstCommand = new RunCommand(Paths.get("script.txt"), false);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new RunCommand(Paths.get("script.txt"), false)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(firstCommand.equals(new RunCommand(Paths.get("other.txt"), false)));
+
+        // different error handling -> returns false
+        assertFalse(firstCommand.equals(new RunCommand(Paths.get("script.txt"), true)));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_studentRecordChangedOnce() throws Exception {
+        Path scriptFilePath = writeScript("# adds two students", ADD_AMY, "", ADD_BOB, DELETE_ALICE);
+        int[] changeCount = {0};
+        model.getStudentRecord().getStudentList().addListener((ListChangeListener<Student>) change ->
+                changeCount[0]++);
+
+        CommandResult result = new RunCommand(scriptFilePath, false).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 3 commands from " + scriptFilePath));
+        assertTrue(model.hasStudent(AMY));
+        assertTrue(model.hasStudent(BOB));
+        assertFalse(model.hasStudent(ALICE));
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void execute_onlyDisplayCommands_studentRecordUnchanged() throws Exception {
+        Path scriptFilePath = writeScript(ViewClassCommand.COMMAND_WORD + " " + ALICE.getClassName());
+        int[] changeCount = {0};
+        model.getStudentRecord().getStudentList().addListener((ListChangeListener<Student>) change ->
+                changeCount[0]++);
+
+        new RunCommand(scriptFilePath, false).execute(model);
+
+        assertEquals(0, changeCount[0]);
+        // the filter of the script is kept
+        assertTrue(model.getFilteredStudentList().stream()
+                .allMatch(student -> student.getClassName().equals(ALICE.getClassName())));
+    }
+
+    @Test
+    public void execute_failedCommandStopOnError_noChanges() throws Exception {
+        Path scriptFilePath = writeScript(ADD_AMY, "", ADD_AMY, ADD_BOB);
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_ERROR, 3,
+                AddStudentCommand.MESSAGE_DUPLICATE_PERSON) + RunCommand.MESSAGE_SCRIPT_STOPPED;
+
+        assertCommandFailure(new RunCommand(scriptFilePath, false), model, expectedMessage);
+        assertFalse(model.hasStudent(AMY));
+        assertFalse(model.hasStudent(BOB));
+    }
+
+    @Test
+    public void execute_failedCommandsContinueOnError_otherCommandsKept() throws Exception {
+        Path scriptFilePath = writeScript(ADD_AMY, "unknownCommand", ADD_AMY, ADD_BOB);
+
+        CommandResult result = new RunCommand(scriptFilePath, true).execute(model);
+
+        String expectedErrors = String.format(RunCommand.MESSAGE_FAILED_COMMANDS, 2)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 2, Messages.MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 3, AddStudentCommand.MESSAGE_DUPLICATE_PERSON);
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 4 commands from " + scriptFilePath));
+        assertTrue(result.getFeedbackToUser().endsWith(expectedErrors));
+        assertTrue(model.hasStudent(AMY));
+        assertTrue(model.hasStudent(BOB));
+    }
+
+    @Test
+    public void execute_exportInScript_backgroundTaskReturned() throws Exception {
+        Path exportFilePath = tempDir.resolve("students.csv");
+        Path scriptFilePath = writeScript(ADD_AMY, ExportCommand.COMMAND_WORD + " " + exportFilePath, ADD_BOB);
+
+        CommandResult result = new RunCommand(scriptFilePath, false).execute(model);
+        assertFalse(Files.exists(exportFilePath));
+        String feedback = result.getBackgroundTask().get().run(message -> {});
+
+        // the export holds the students at the point of the script it was run at
+        assertTrue(feedback.startsWith("Exported " + (getTypicalStudentRecord().getStudentList().size() + 1)
+                + " students to " + exportFilePath));
+        assertTrue(Files.exists(exportFilePath));
+    }
+
+    @Test
+    public void execute_nestedRun_throwsCommandException() throws Exception {
+        Path scriptFilePath = writeScript(ADD_AMY, RunCommand.COMMAND_WORD + " other.txt");
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_ERROR, 2, RunCommand.MESSAGE_NESTED_RUN)
+                + RunCommand.MESSAGE_SCRIPT_STOPPED;
+
+        assertCommandFailure(new RunCommand(scriptFilePath, false), model, expectedMessage);
+        assertFalse(model.hasStudent(AMY));
+    }
+
+    @Test
+    public void execute_windowCommands_throwsCommandException() throws Exception {
+        Path scriptFilePath = writeScript(ADD_AMY, HelpCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD);
+
+        CommandResult result = new RunCommand(scriptFilePath, true).execute(model);
+
+        String expectedErrors = String.format(RunCommand.MESSAGE_FAILED_COMMANDS, 2)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 2,
+                        String.format(RunCommand.MESSAGE_WINDOW_COMMAND, HelpCommand.COMMAND_WORD))
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 3,
+                        String.format(RunCommand.MESSAGE_WINDOW_COMMAND, ExitCommand.COMMAND_WORD));
+        assertTrue(result.getFeedbackToUser().endsWith(expectedErrors));
+        assertFalse(result.isExit());
+        assertFalse(result.isShowHelp());
+        assertTrue(model.hasStudent(AMY));
+    }
+
+    @Test
+    public void execute_toggleViewInScript_viewAndOrderKept() throws Exception {
+        Comparator<Student> reversedOrder = Comparator.comparing((Student student) -> student.getId().toString())
+                .reversed();
+        model.sortFilteredStudentList(reversedOrder);
+        List<Student> expectedStudents = new ArrayList<>(model.getFilteredStudentList());
+        Path scriptFilePath = writeScript(ToggleViewCommand.COMMAND_WORD);
+
+        new RunCommand(scriptFilePath, false).execute(model);
+
+        assertTrue(model.isStudentListInfoConcise());
+        assertEquals(expectedStudents, model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_viewStatsInScript_gradeOrderKept() throws Exception {
+        String viewStats = ViewStatsCommand.COMMAND_WORD + " class/" + DANIEL.getClassName() + " exam/CA1 filter/off";
+        Path scriptFilePath = writeScript(viewStats);
+        Model expectedModel = new ModelManager(model.getStudentRecord(), new UserPrefs());
+        new ViewStatsCommand(DANIEL.getClassName(), "CA1", false).execute(expectedModel);
+
+        new RunCommand(scriptFilePath, false).execute(model);
+
+        assertTrue(model.getFilteredStudents().getComparator() != null);
+        assertEquals(expectedModel.getFilteredStudentList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_missingScriptFile_throwsCommandException() {
+        RunCommand runCommand = new RunCommand(tempDir.resolve("missing.txt"), false);
+        assertThrows(CommandException.class, () -> runCommand.execute(model));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptFilePath = tempDir.resolve("script.txt");
+        Files.write(scriptFilePath, Arrays.asList(lines));
+        return scriptFilePath;
+    }
+}
@@ -4,14 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classify.commons.core.Messages.MESSAGE_CLASS_SORTED_BY_GRADE;
+import static seedu.classify.commons.core.Messages.MESSAGE_DISPLAY_DISTRIBUTION;
 import static seedu.classify.commons.core.Messages.MESSAGE_DISPLAY_MEAN;
+import static seedu.classify.commons.core.Messages.MESSAGE_DISPLAY_PERCENTILE;
+import static seedu.classify.commons.core.Messages.MESSAGE_DISPLAY_QUARTILES;
+import static seedu.classify.commons.core.Messages.MESSAGE_DISPLAY_SPREAD;
+import static seedu.classify.commons.core.Messages.MESSAGE_MISSING_GRADES;
+import static seedu.classify.commons.core.Messages.MESSAGE_NO_GRADES;
 import static seedu.classify.commons.core.Messages.MESSAGE_STUDENT_CLASS_NOT_FOUND;
 import static seedu.classify.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.classify.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+import static seedu.classify.testutil.TypicalStudents.ELLE;
 import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -53,6 +62,9 @@ class ViewStatsCommandTest {
 
         // different classes -> returns false
         assertFalse(firstCommand.equals(secondCommand));
+
+        // different percentile -> returns false
+        assertFalse(firstCommand.equals(new ViewStatsCommand(firstClassName, "ca1", true, Optional.of(90))));
     }
 
     @Test
@@ -63,23 +75,43 @@ class ViewStatsCommandTest {
     }
 
     @Test
-    public void execute_gradesMissing_throwsCommandException() {
-        String expectedMessage = "There are missing grades for this particular exam"
-                + "\nMean cannot be calculated.";
+    public void execute_someGradesMissing_reportsMissingGrades() {
+        String expectedMessage = String.format(MESSAGE_CLASS_SORTED_BY_GRADE, "3A1")
+                + String.format(MESSAGE_DISPLAY_MEAN, "SA1", "3A1", 90.00)
+                + String.format(MESSAGE_DISPLAY_SPREAD, 0.00, 90, 90)
+                + String.format(MESSAGE_DISPLAY_QUARTILES, 90.00, 90.00, 90.00)
+                + String.format(MESSAGE_DISPLAY_DISTRIBUTION, "0-19: 0, 20-39: 0, 40-59: 0, 60-79: 0, 80-100: 1")
+                + String.format(MESSAGE_MISSING_GRADES, 1, "SA1");
         ViewStatsCommand command = new ViewStatsCommand(
                 new Class("3A1"), "SA1", false);
         expectedModel.updateFilteredStudentList(new ClassPredicate(new Class("3A1")));
+        expectedModel.sortFilteredStudentList(new GradeComparator("SA1", new Class("3A1")));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, ELLE), model.getFilteredStudentList());
+        // the order of the student record is unchanged
+        assertEquals(getTypicalStudentRecord().getStudentList(), model.getStudentRecord().getStudentList());
+    }
+
+    @Test
+    public void execute_allGradesMissing_meanNotCalculated() {
+        String expectedMessage = String.format(MESSAGE_NO_GRADES, "CA1", "4B1");
+        ViewStatsCommand command = new ViewStatsCommand(
+                new Class("4B1"), "CA1", false);
+        expectedModel.updateFilteredStudentList(new ClassPredicate(new Class("4B1")));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
     @Test
     public void execute_validArgsUnfilterGrades_success() {
         String expectedMessage = String.format(MESSAGE_CLASS_SORTED_BY_GRADE, "4A1")
-                + String.format(MESSAGE_DISPLAY_MEAN, "SA1", "4A1", 60.00);
+                + String.format(MESSAGE_DISPLAY_MEAN, "SA1", "4A1", 60.00)
+                + String.format(MESSAGE_DISPLAY_SPREAD, 0.00, 60, 60)
+                + String.format(MESSAGE_DISPLAY_QUARTILES, 60.00, 60.00, 60.00)
+                + String.format(MESSAGE_DISPLAY_DISTRIBUTION, "0-19: 0, 20-39: 0, 40-59: 0, 60-79: 1, 80-100: 0");
         ViewStatsCommand command = new ViewStatsCommand(
                 new Class("4A1"), "SA1", false);
         expectedModel.updateFilteredStudentList(new ClassPredicate(new Class("4A1")));
-        expectedModel.sortStudentRecord(new GradeComparator("SA1", new Class("4A1")));
+        expectedModel.sortFilteredStudentList(new GradeComparator("SA1", new Class("4A1")));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(ALICE), model.getFilteredStudentList());
     }
@@ -87,15 +119,32 @@ class ViewStatsCommandTest {
     @Test
     public void execute_validArgsFilteredGrades_success() {
         String expectedMessage = String.format(MESSAGE_CLASS_SORTED_BY_GRADE, "4A1")
-                + String.format(MESSAGE_DISPLAY_MEAN, "SA1", "4A1", 60.00);
+                + String.format(MESSAGE_DISPLAY_MEAN, "SA1", "4A1", 60.00)
+                + String.format(MESSAGE_DISPLAY_SPREAD, 0.00, 60, 60)
+                + String.format(MESSAGE_DISPLAY_QUARTILES, 60.00, 60.00, 60.00)
+                + String.format(MESSAGE_DISPLAY_DISTRIBUTION, "0-19: 0, 20-39: 0, 40-59: 0, 60-79: 1, 80-100: 0");
         ViewStatsCommand command = new ViewStatsCommand(
                 new Class("4A1"), "SA1", true);
-        expectedModel.updateFilteredStudentList(new ClassPredicate(new Class("4A1")));
-        expectedModel.sortStudentRecord(new GradeComparator("SA1", new Class("4A1")));
         expectedModel.updateFilteredStudentList(
                 new GradeLessThanMeanPredicate(new Class("4A1"), 60.00, "SA1"));
+        expectedModel.sortFilteredStudentList(new GradeComparator("SA1", new Class("4A1")));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_percentileRequested_displaysPercentile() {
+        String expectedMessage = String.format(MESSAGE_CLASS_SORTED_BY_GRADE, "3A1")
+                + String.format(MESSAGE_DISPLAY_MEAN, "SA1", "3A1", 90.00)
+                + String.format(MESSAGE_DISPLAY_SPREAD, 0.00, 90, 90)
+                + String.format(MESSAGE_DISPLAY_QUARTILES, 90.00, 90.00, 90.00)
+                + String.format(MESSAGE_DISPLAY_PERCENTILE, 10, 90.00)
+                + String.format(MESSAGE_DISPLAY_DISTRIBUTION, "0-19: 0, 20-39: 0, 40-59: 0, 60-79: 0, 80-100: 1")
+                + String.format(MESSAGE_MISSING_GRADES, 1, "SA1");
+        ViewStatsCommand command = new ViewStatsCommand(
+                new Class("3A1"), "SA1", false, Optional.of(10));
+        expectedModel.updateFilteredStudentList(new ClassPredicate(new Class("3A1")));
+        expectedModel.sortFilteredStudentList(new GradeComparator("SA1", new Class("3A1")));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
 }
@@ -0,0 +1,62 @@
+package seedu.classify.logic.parser;
+
+import static seedu.classify.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.classify.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.classify.logic.parser.CliSyntax.PREFIX_EXAM;
+import static seedu.classify.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.classify.logic.parser.CliSyntax.PREFIX_PARENT_NAME;
+import static seedu.classify.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.classify.logic.parser.CliSyntax.PREFIX_STUDENT_NAME;
+
+import seedu.classify.testutil.Benchmark;
+
+/**
+ * Measures the time taken by {@code ArgumentTokenizer} to tokenize the arguments of scripted add commands, and of a
+ * single long arguments string with many repeated prefixes.
+ * Its {@code main} method takes the number of add commands.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final int DEFAULT_COMMAND_COUNT = 26000;
+    private static final int LONG_ARGS_REPEATS = 2000;
+    private static final int LONG_ARGS_ROUNDS = 20;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final Prefix[] ADD_PREFIXES = {PREFIX_STUDENT_NAME, PREFIX_ID, PREFIX_CLASS, PREFIX_PARENT_NAME,
+        PREFIX_PHONE, PREFIX_EMAIL, PREFIX_EXAM};
+
+    public static void main(String[] args) throws Exception {
+        int commandCount = Benchmark.parseSizes(args, DEFAULT_COMMAND_COUNT)[0];
+        String[] addArgs = new String[commandCount];
+        for (int i = 0; i < commandCount; i++) {
+            addArgs[i] = String.format(" nm/Student %1$d id/%2$03d%3$c class/4A%4$d pn/Parent Of Student %1$d"
+                    + " hp/%5$d e/parent%1$d@example.com exam/CA1 %6$d exam/SA1 %7$d", i, i / 26 % 1000,
+                    (char) ('A' + i % 26), i % 40, 80000000 + i, i % 101, (i * 7) % 101);
+        }
+        StringBuilder longArgs = new StringBuilder(" preamble");
+        for (int i = 0; i < LONG_ARGS_REPEATS; i++) {
+            longArgs.append(" exam/CA").append(i % 2 + 1).append(' ').append(i % 101).append(" nm/word word");
+        }
+
+        measure("add commands", addArgs, 1);
+        measure("long args", new String[] {longArgs.toString()}, LONG_ARGS_ROUNDS);
+    }
+
+    /**
+     * Prints the average time taken to tokenize one of {@code argsStrings}, repeating each round of tokenizing
+     * {@code argsStrings} {@code rounds} times.
+     */
+    private static void measure(String name, String[] argsStrings, int rounds) throws Exception {
+        double[] nanos = new Benchmark(WARM_UP_ROUNDS * rounds, MEASURED_ROUNDS * rounds).measure(() ->
+                tokenizeAll(argsStrings));
+        System.out.printf("%-12s %10.1f ns per arguments string%n", name, nanos[0] / argsStrings.length);
+    }
+
+    private static long tokenizeAll(String[] argsStrings) {
+        long preambleLength = 0;
+        for (String argsString : argsStrings) {
+            preambleLength += ArgumentTokenizer.tokenize(argsString, ADD_PREFIXES).getPreamble().length();
+        }
+        return preambleLength;
+    }
+}
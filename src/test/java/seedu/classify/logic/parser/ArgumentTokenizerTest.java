@@ -136,6 +136,25 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognized() {
+        String argsString = "SomePreambleString\tp/not a value -t\tdashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "SomePreambleString\tp/not a value");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
+    @Test
+    public void tokenize_prefixesWithSameStart_longestPrefixRecognized() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "SomePreambleString -tt dashTt value -t dashT value -ttjoined";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTt, "dashTt value", "joined");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
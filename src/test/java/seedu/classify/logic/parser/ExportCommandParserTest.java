@@ -0,0 +1,48 @@
+package seedu.classify.logic.parser;
+
+import static seedu.classify.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.logic.commands.ExportCommand;
+import seedu.classify.logic.commands.ExportCommand.Format;
+import seedu.classify.model.student.Class;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " class/4A1", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // unknown extension
+        assertParseFailure(parser, " students.txt", ParserUtil.MESSAGE_INVALID_EXPORT_FORMAT);
+
+        // invalid class
+        assertParseFailure(parser, " students.csv class/4A-1", Class.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        // displayed students
+        assertParseSuccess(parser, " students.csv ",
+                new ExportCommand(Paths.get("students.csv"), Format.CSV, Optional.empty()));
+
+        // file path with spaces, class
+        assertParseSuccess(parser, " my exports/4A1.json class/4A1",
+                new ExportCommand(Paths.get("my exports/4A1.json"), Format.JSON, Optional.of(new Class("4A1"))));
+    }
+}
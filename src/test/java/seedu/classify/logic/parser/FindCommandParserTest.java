@@ -1,10 +1,12 @@
 package seedu.classify.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.classify.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +26,12 @@ public class FindCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_emptyName_throwsParseException() {
+        assertParseFailure(parser, " nm/ \t ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_bothNameAndIdPrefix_throwsParseException() {
         assertParseFailure(parser, " nm/Alice id/123A",
@@ -50,4 +58,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " id/ \t 123a \n", expectedFindCommand);
     }
 
+    @Test
+    public void parseNameKeywords_nameArgs_returnsKeywords() {
+        assertEquals(Optional.of(Arrays.asList("Ali", "Bo")), FindCommandParser.parseNameKeywords(" nm/Ali  Bo "));
+    }
+
+    @Test
+    public void parseNameKeywords_notNameArgs_returnsEmpty() {
+        // no keywords yet
+        assertEquals(Optional.empty(), FindCommandParser.parseNameKeywords(" nm/ "));
+        // search by ID
+        assertEquals(Optional.empty(), FindCommandParser.parseNameKeywords(" id/123"));
+        assertEquals(Optional.empty(), FindCommandParser.parseNameKeywords(" nm/Alice id/123"));
+        // text before the prefix
+        assertEquals(Optional.empty(), FindCommandParser.parseNameKeywords(" Alice nm/Bob"));
+    }
+
 }
@@ -0,0 +1,29 @@
+package seedu.classify.logic.parser;
+
+import static seedu.classify.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " scores.csv ", new ImportCommand(Paths.get("scores.csv")));
+
+        // file path with spaces
+        assertParseSuccess(parser, " term 1/scores.csv", new ImportCommand(Paths.get("term 1/scores.csv")));
+    }
+}
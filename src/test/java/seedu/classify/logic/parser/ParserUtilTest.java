@@ -7,6 +7,7 @@ import static seedu.classify.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.classify.testutil.Assert.assertThrows;
 import static seedu.classify.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -14,6 +15,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.logic.commands.ExportCommand;
 import seedu.classify.logic.parser.exceptions.ParseException;
 import seedu.classify.model.exam.Exam;
 import seedu.classify.model.student.Class;
@@ -225,4 +227,64 @@ public class ParserUtilTest {
     public void parseFilter_validFilterValue_returnsFalse() throws ParseException {
         assertFalse(ParserUtil.parseFilter("OFF"));
     }
+
+    @Test
+    public void parsePercentile_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentile("101"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentile("-1"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentile("ninety"));
+    }
+
+    @Test
+    public void parsePercentile_validValueWithWhitespace_returnsPercentile() throws ParseException {
+        assertEquals(0, ParserUtil.parsePercentile("0"));
+        assertEquals(100, ParserUtil.parsePercentile(" 100 "));
+    }
+
+    @Test
+    public void parseRankSize_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseRankSize("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRankSize("+3"));
+    }
+
+    @Test
+    public void parseRankSize_validValueWithWhitespace_returnsCount() throws ParseException {
+        assertEquals(3, ParserUtil.parseRankSize(" 3 "));
+    }
+
+    @Test
+    public void parseFilePath_blankValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseFilePath(" "));
+        assertThrows(ParseException.class, () -> ParserUtil.parseFilePath("bad\u0000path"));
+    }
+
+    @Test
+    public void parseFilePath_validValueWithWhitespace_returnsPath() throws ParseException {
+        assertEquals(Paths.get("scripts", "add.txt"), ParserUtil.parseFilePath(" scripts/add.txt "));
+    }
+
+    @Test
+    public void parseOnError_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseOnError("skip"));
+    }
+
+    @Test
+    public void parseOnError_validValueWithWhitespace_returnsBoolean() throws ParseException {
+        assertTrue(ParserUtil.parseOnError(" continue "));
+        assertFalse(ParserUtil.parseOnError("STOP"));
+    }
+
+    @Test
+    public void parseExportFormat_unknownExtension_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_EXPORT_FORMAT, ()
+            -> ParserUtil.parseExportFormat(Paths.get("students.txt")));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_EXPORT_FORMAT, ()
+            -> ParserUtil.parseExportFormat(Paths.get("csv")));
+    }
+
+    @Test
+    public void parseExportFormat_knownExtension_returnsFormat() throws ParseException {
+        assertEquals(ExportCommand.Format.CSV, ParserUtil.parseExportFormat(Paths.get("exports", "students.csv")));
+        assertEquals(ExportCommand.Format.JSON, ParserUtil.parseExportFormat(Paths.get("students.JSON")));
+    }
 }
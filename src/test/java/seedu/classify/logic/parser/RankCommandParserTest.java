@@ -0,0 +1,50 @@
+package seedu.classify.logic.parser;
+
+import static seedu.classify.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.logic.commands.RankCommand;
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.student.Class;
+
+public class RankCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE);
+
+    private RankCommandParser parser = new RankCommandParser();
+
+    @Test
+    public void parse_missingExam_throwsParseException() {
+        assertParseFailure(parser, " class/4a1 top/3", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_topAndBottom_throwsParseException() {
+        // neither
+        assertParseFailure(parser, " exam/sa1", MESSAGE_INVALID_FORMAT);
+
+        // both
+        assertParseFailure(parser, " exam/sa1 top/3 bottom/3", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " exam/sa3 top/3", Exam.MESSAGE_NAME_CONSTRAINTS);
+        assertParseFailure(parser, " exam/sa1 top/0", ParserUtil.MESSAGE_INVALID_RANK_SIZE);
+        assertParseFailure(parser, " exam/sa1 bottom/three", ParserUtil.MESSAGE_INVALID_RANK_SIZE);
+    }
+
+    @Test
+    public void parse_validArgs_returnsRankCommand() {
+        assertParseSuccess(parser, " exam/sa1 class/4a1 bottom/10",
+                new RankCommand("SA1", Optional.of(new Class("4a1")), 10, false));
+        assertParseSuccess(parser, " top/5 exam/ca2",
+                new RankCommand("CA2", Optional.empty(), 5, true));
+    }
+}
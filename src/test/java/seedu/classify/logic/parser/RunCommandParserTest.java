@@ -0,0 +1,43 @@
+package seedu.classify.logic.parser;
+
+import static seedu.classify.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " onerror/continue", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidOnError_throwsParseException() {
+        assertParseFailure(parser, " script.txt onerror/ignore", ParserUtil.MESSAGE_INVALID_ON_ERROR);
+    }
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        // stops on error by default
+        assertParseSuccess(parser, " script.txt ", new RunCommand(Paths.get("script.txt"), false));
+
+        // file path with spaces
+        assertParseSuccess(parser, " my scripts/add.txt onerror/STOP",
+                new RunCommand(Paths.get("my scripts/add.txt"), false));
+
+        // continue on error, case-insensitive
+        assertParseSuccess(parser, " script.txt onerror/Continue", new RunCommand(Paths.get("script.txt"), true));
+    }
+}
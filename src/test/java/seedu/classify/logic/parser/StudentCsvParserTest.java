@@ -0,0 +1,99 @@
+package seedu.classify.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.classify.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.logic.commands.EditCommand.EditStudentDescriptor;
+import seedu.classify.logic.parser.exceptions.ParseException;
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.Id;
+import seedu.classify.model.student.Name;
+import seedu.classify.testutil.EditStudentDescriptorBuilder;
+
+public class StudentCsvParserTest {
+
+    private static final List<String> HEADER = Arrays.asList("Name", "ID", "Class", "Parent Name", "Parent Phone",
+            "Parent Email", "CA1", "CA2", "SA1", "SA2");
+
+    @Test
+    public void constructor_nullHeader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentCsvParser(null));
+    }
+
+    @Test
+    public void constructor_missingIdColumn_throwsParseException() {
+        assertThrows(ParseException.class, StudentCsvParser.MESSAGE_MISSING_ID_COLUMN, () ->
+                new StudentCsvParser(Arrays.asList("Name", "Class")));
+    }
+
+    @Test
+    public void constructor_duplicateColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(StudentCsvParser.MESSAGE_DUPLICATE_COLUMN, "Name"), () ->
+                new StudentCsvParser(Arrays.asList("Name", "ID", "name")));
+    }
+
+    @Test
+    public void parseRow_allColumns_success() throws Exception {
+        StudentCsvParser parser = new StudentCsvParser(HEADER);
+        EditStudentDescriptor expectedDescriptor = new EditStudentDescriptorBuilder().withStudentName("Alice Pauline")
+                .withId("123A").withClassName("4A1").withParentName("May Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withExams("CA2 90", "SA1 60").build();
+
+        EditStudentDescriptor descriptor = parser.parseRow(Arrays.asList(" Alice Pauline", "123A", "4A1",
+                "May Pauline", "94351253", "alice@example.com", "", "90", "60 ", ""));
+
+        assertEquals(expectedDescriptor, descriptor);
+        for (Exam exam : descriptor.getExams().get()) {
+            assertEquals(exam.getExamName().equals("CA2") ? 90 : 60, exam.getScore());
+        }
+    }
+
+    @Test
+    public void parseRow_reorderedAndUnknownColumns_success() throws Exception {
+        StudentCsvParser parser = new StudentCsvParser(Arrays.asList("sa2", "Remarks", " id "));
+        EditStudentDescriptor expectedDescriptor = new EditStudentDescriptorBuilder().withId("123A")
+                .withExams("SA2 75").build();
+
+        assertEquals(expectedDescriptor, parser.parseRow(Arrays.asList("75", "not imported", "123A")));
+    }
+
+    @Test
+    public void parseRow_missingTrailingFields_fieldsLeftOut() throws Exception {
+        StudentCsvParser parser = new StudentCsvParser(HEADER);
+
+        EditStudentDescriptor descriptor = parser.parseRow(Arrays.asList("Alice Pauline", "123A"));
+
+        assertEquals(new Name("Alice Pauline"), descriptor.getStudentName().get());
+        assertEquals(new Id("123A"), descriptor.getId().get());
+        assertFalse(descriptor.getClassName().isPresent());
+        assertFalse(descriptor.getExams().isPresent());
+    }
+
+    @Test
+    public void parseRow_invalidRows_throwsParseException() throws Exception {
+        StudentCsvParser parser = new StudentCsvParser(HEADER);
+
+        // too many fields
+        assertThrows(ParseException.class, String.format(StudentCsvParser.MESSAGE_TOO_MANY_FIELDS, 11, 10), () ->
+                parser.parseRow(Arrays.asList("Alice Pauline", "123A", "", "", "", "", "", "", "", "", "")));
+
+        // missing ID
+        assertThrows(ParseException.class, StudentCsvParser.MESSAGE_MISSING_ID, () ->
+                parser.parseRow(Arrays.asList("Alice Pauline", " ", "4A1")));
+
+        // invalid field
+        assertThrows(ParseException.class, Class.MESSAGE_CONSTRAINTS, () ->
+                parser.parseRow(Arrays.asList("Alice Pauline", "123A", "4A-1")));
+
+        // invalid score
+        assertThrows(ParseException.class, Exam.MESSAGE_SCORE_CONSTRAINTS, () ->
+                parser.parseRow(Arrays.asList("Alice Pauline", "123A", "4A1", "", "", "", "101")));
+    }
+}
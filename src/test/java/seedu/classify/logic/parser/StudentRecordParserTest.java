@@ -7,8 +7,10 @@ import static seedu.classify.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.classify.testutil.Assert.assertThrows;
 import static seedu.classify.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -18,8 +20,12 @@ import seedu.classify.logic.commands.ClearCommand;
 import seedu.classify.logic.commands.DeleteCommand;
 import seedu.classify.logic.commands.EditCommand;
 import seedu.classify.logic.commands.ExitCommand;
+import seedu.classify.logic.commands.ExportCommand;
 import seedu.classify.logic.commands.FindCommand;
 import seedu.classify.logic.commands.HelpCommand;
+import seedu.classify.logic.commands.ImportCommand;
+import seedu.classify.logic.commands.RankCommand;
+import seedu.classify.logic.commands.RunCommand;
 import seedu.classify.logic.commands.ToggleViewCommand;
 import seedu.classify.logic.commands.ViewAllCommand;
 import seedu.classify.logic.commands.ViewClassCommand;
@@ -130,6 +136,33 @@ public class StudentRecordParserTest {
         assertEquals(new ViewStatsCommand(new Class("4A"), "CA1", false), viewStatsCommand);
     }
 
+    @Test
+    public void parseCommand_rank() throws Exception {
+        RankCommand rankCommand = (RankCommand) parser.parseCommand(
+                RankCommand.COMMAND_WORD + " exam/sa1 class/4a top/3");
+        assertEquals(new RankCommand("SA1", Optional.of(new Class("4A")), 3, true), rankCommand);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand runCommand = (RunCommand) parser.parseCommand(
+                RunCommand.COMMAND_WORD + " script.txt onerror/continue");
+        assertEquals(new RunCommand(Paths.get("script.txt"), true), runCommand);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand importCommand = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " scores.csv");
+        assertEquals(new ImportCommand(Paths.get("scores.csv")), importCommand);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand exportCommand = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " 4A1.json");
+        assertEquals(new ExportCommand(Paths.get("4A1.json"), ExportCommand.Format.JSON, Optional.empty()),
+                exportCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
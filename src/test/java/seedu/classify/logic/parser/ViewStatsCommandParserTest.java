@@ -4,6 +4,8 @@ import static seedu.classify.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMA
 import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.classify.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.classify.logic.commands.ViewStatsCommand;
@@ -41,6 +43,18 @@ public class ViewStatsCommandParserTest {
         assertParseFailure(parser, " class/4a exam/ca1 filter/sdfsof", ParserUtil.MESSAGE_INVALID_FILTER);
     }
 
+    @Test
+    public void parse_invalidPercentile_throwsParseException() {
+        assertParseFailure(parser, " class/4a exam/ca1 filter/on percentile/101",
+                ParserUtil.MESSAGE_INVALID_PERCENTILE);
+    }
+
+    @Test
+    public void parse_validArgsWithPercentile_returnsViewStatsCommand() {
+        ViewStatsCommand expectedCommand = new ViewStatsCommand(new Class("4a"), "CA1", false, Optional.of(90));
+        assertParseSuccess(parser, " class/4a exam/ca1 filter/off percentile/90", expectedCommand);
+    }
+
     @Test
     public void parse_validArgs_returnsViewStatsCommand() {
         ViewStatsCommand expectedCommand = new ViewStatsCommand(new Class("4a"), "CA1", true);
@@ -0,0 +1,69 @@
+package seedu.classify.model;
+
+import java.util.function.Predicate;
+
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.Email;
+import seedu.classify.model.student.Id;
+import seedu.classify.model.student.Name;
+import seedu.classify.model.student.Phone;
+import seedu.classify.testutil.Benchmark;
+
+/**
+ * Compares the time taken to validate each field of a student by matching its validation regex, as was done before,
+ * and by its {@code isValidX} method, which is called for every field of every student that is loaded or parsed.
+ * Its {@code main} method takes the number of values to validate for each field.
+ */
+public class FieldValidationBenchmark {
+
+    private static final int DEFAULT_SIZE = 26000;
+    private static final Benchmark BENCHMARK = new Benchmark(5, 10);
+
+    public static void main(String[] args) throws Exception {
+        int size = Benchmark.parseSizes(args, DEFAULT_SIZE)[0];
+        String[] names = new String[size];
+        String[] ids = new String[size];
+        String[] classNames = new String[size];
+        String[] phones = new String[size];
+        String[] emails = new String[size];
+        String[] scores = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = "Student Number " + i;
+            ids[i] = String.format("%03d%c", i / 26 % 1000, (char) ('A' + i % 26));
+            classNames[i] = "Class " + i % 40;
+            phones[i] = String.valueOf(80000000 + i);
+            emails[i] = "parent.of-student" + i + "@school" + i % 7 + ".example.com";
+            scores[i] = String.valueOf(i % 101);
+        }
+
+        measure("name", names, Name.VALIDATION_REGEX, Name::isValidName);
+        measure("id", ids, Id.VALIDATION_REGEX, Id::isValidId);
+        measure("class", classNames, Class.VALIDATION_REGEX, Class::isValidClassName);
+        measure("phone", phones, Phone.VALIDATION_REGEX, Phone::isValidPhone);
+        measure("email", emails, Email.VALIDATION_REGEX, Email::isValidEmail);
+        measure("score", scores, Exam.VALIDATION_REGEX, Exam::isValidScore);
+    }
+
+    /**
+     * Prints the average time taken to validate one of {@code values}, by matching {@code regex} and by
+     * {@code validator}.
+     */
+    private static void measure(String field, String[] values, String regex, Predicate<String> validator)
+            throws Exception {
+        double[] nanos = BENCHMARK.measure(() -> countValid(values, value -> value.matches(regex)), () ->
+                countValid(values, validator));
+        System.out.printf("%-6s regex %8.1f ns, isValid %8.1f ns per value%n", field, nanos[0] / values.length,
+                nanos[1] / values.length);
+    }
+
+    private static long countValid(String[] values, Predicate<String> validator) {
+        long validCount = 0;
+        for (String value : values) {
+            if (validator.test(value)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+}
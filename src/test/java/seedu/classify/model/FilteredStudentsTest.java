@@ -11,6 +11,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.classify.model.student.Student;
@@ -31,6 +32,18 @@ class FilteredStudentsTest {
         assertTrue(filteredStudents.hasConciseInfo());
     }
 
+    @Test
+    public void toggleConciseInfo_updatesPropertyWithoutChangingList() {
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        filteredStudents.getFilteredStudentList().addListener((ListChangeListener<Student>) changes::add);
+        filteredStudents.toggleConciseInfo();
+        assertTrue(filteredStudents.conciseInfoProperty().get());
+        assertTrue(changes.isEmpty());
+
+        filteredStudents.toggleConciseInfo();
+        assertFalse(filteredStudents.conciseInfoProperty().get());
+    }
+
     @Test
     public void equals() {
         // Same object, return true
@@ -7,17 +7,21 @@ import static seedu.classify.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.classify.logic.commands.CommandTestUtil.VALID_EXAM_1;
 import static seedu.classify.testutil.Assert.assertThrows;
 import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.CARL;
+import static seedu.classify.testutil.TypicalStudents.GEORGE;
 import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.classify.model.student.Class;
 import seedu.classify.model.student.Student;
 import seedu.classify.model.student.exceptions.DuplicateStudentException;
 import seedu.classify.testutil.StudentBuilder;
@@ -54,6 +58,52 @@ public class StudentRecordTest {
         assertThrows(DuplicateStudentException.class, () -> studentRecord.resetData(newData));
     }
 
+    @Test
+    public void loadStudents_unsortedStudents_sortsByName() {
+        studentRecord.loadStudents(Arrays.asList(GEORGE, ALICE, CARL));
+        assertEquals(Arrays.asList(ALICE, CARL, GEORGE), studentRecord.getStudentList());
+    }
+
+    @Test
+    public void loadStudents_withDuplicatePersons_throwsDuplicatePersonException() {
+        Student editedAlice = new StudentBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicateStudentException.class, () -> studentRecord.loadStudents(
+                Arrays.asList(ALICE, CARL, editedAlice)));
+    }
+
+    @Test
+    public void addStudents_inChunks_appendsStudentsAndUpdatesIndexes() {
+        studentRecord.addStudents(Collections.singletonList(ALICE));
+        studentRecord.addStudents(Arrays.asList(CARL, GEORGE));
+        assertEquals(Arrays.asList(ALICE, CARL, GEORGE), studentRecord.getStudentList());
+        assertTrue(studentRecord.hasClass(GEORGE.getClassName()));
+        assertEquals(Collections.singleton(GEORGE), studentRecord.getStudentsInClass(GEORGE.getClassName()));
+    }
+
+    @Test
+    public void addStudents_withExistingPerson_throwsDuplicatePersonException() {
+        studentRecord.addStudents(Arrays.asList(ALICE, CARL));
+        assertThrows(DuplicateStudentException.class, () -> studentRecord.addStudents(Arrays.asList(GEORGE, ALICE)));
+        assertEquals(Arrays.asList(ALICE, CARL), studentRecord.getStudentList());
+    }
+
+    @Test
+    public void addStudent_unsortedInsertions_keepsNameOrder() {
+        studentRecord.addStudent(GEORGE);
+        studentRecord.addStudent(ALICE);
+        studentRecord.addStudent(CARL);
+        assertEquals(Arrays.asList(ALICE, CARL, GEORGE), studentRecord.getStudentList());
+    }
+
+    @Test
+    public void addStudent_afterSortingByOtherOrder_restoresNameOrder() {
+        studentRecord.loadStudents(Arrays.asList(ALICE, GEORGE));
+        studentRecord.sortList(Comparator.comparing((Student student) -> student.getStudentName().fullName)
+                .reversed());
+        studentRecord.addStudent(CARL);
+        assertEquals(Arrays.asList(ALICE, CARL, GEORGE), studentRecord.getStudentList());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> studentRecord.hasStudent(null));
@@ -78,6 +128,25 @@ public class StudentRecordTest {
         assertTrue(studentRecord.hasStudent(editedAlice));
     }
 
+    @Test
+    public void getStudentsInClass_afterClassChange_movesStudent() {
+        studentRecord.addStudent(ALICE);
+        Student aliceInNewClass = new StudentBuilder(ALICE).withClassName("3A1").build();
+        studentRecord.setStudent(ALICE, aliceInNewClass);
+        assertFalse(studentRecord.hasClass(ALICE.getClassName()));
+        assertEquals(Collections.singleton(aliceInNewClass), studentRecord.getStudentsInClass(new Class("3A1")));
+    }
+
+    @Test
+    public void getStudentsInClass_afterRemoveAndReset_reflectsRecord() {
+        studentRecord.resetData(getTypicalStudentRecord());
+        assertEquals(2, studentRecord.getStudentsInClass(new Class("3A1")).size());
+        studentRecord.removePerson(ALICE);
+        assertFalse(studentRecord.hasClass(ALICE.getClassName()));
+        studentRecord.resetData(new StudentRecord());
+        assertFalse(studentRecord.hasClass(new Class("3A1")));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> studentRecord.getStudentList().remove(0));
@@ -4,8 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.classify.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.commons.core.StudentRecordFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -20,6 +24,27 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setStudentRecordFilePath(null));
     }
 
+    @Test
+    public void setStudentRecordFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStudentRecordFormat(null));
+    }
+
+    @Test
+    public void getStudentRecordFileInUse() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(UserPrefs.DEFAULT_STUDENT_RECORD_FILE_PATH, userPrefs.getStudentRecordFileInUse());
+
+        // the binary format does not use the default json file, but the file path is kept
+        userPrefs.setStudentRecordFormat(StudentRecordFormat.BINARY);
+        assertEquals(UserPrefs.DEFAULT_BINARY_STUDENT_RECORD_FILE_PATH, userPrefs.getStudentRecordFileInUse());
+        assertEquals(UserPrefs.DEFAULT_STUDENT_RECORD_FILE_PATH, userPrefs.getStudentRecordFilePath());
+
+        // a file path that is not the default is used in either format
+        userPrefs.setStudentRecordFilePath(Paths.get("other.dat"));
+        assertEquals(Paths.get("other.dat"), userPrefs.getStudentRecordFileInUse());
+    }
+
     @Test
     public void equals() {
         UserPrefs userPrefs = new UserPrefs();
@@ -33,5 +58,9 @@ public class UserPrefsTest {
 
         // Equality
         assertEquals(userPrefs, otherUserPrefs);
+
+        // Different student record format
+        otherUserPrefs.setStudentRecordFormat(StudentRecordFormat.BINARY);
+        assertNotEquals(userPrefs, otherUserPrefs);
     }
 }
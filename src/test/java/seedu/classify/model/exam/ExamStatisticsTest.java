@@ -0,0 +1,76 @@
+package seedu.classify.model.exam;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.model.exam.ScoreHistogramTest.histogramOf;
+import static seedu.classify.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ExamStatisticsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExamStatistics(null, 0));
+    }
+
+    @Test
+    public void constructor_negativeMissingCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExamStatistics(new ScoreHistogram(), -1));
+    }
+
+    @Test
+    public void constructor_noScores_meanIsNaN() {
+        ExamStatistics statistics = new ExamStatistics(new ScoreHistogram(), 2);
+        assertFalse(statistics.hasScores());
+        assertTrue(Double.isNaN(statistics.getMean()));
+        assertTrue(Double.isNaN(statistics.getStandardDeviation()));
+        assertTrue(Double.isNaN(statistics.getMedian()));
+    }
+
+    @Test
+    public void constructor_equalScores_zeroStandardDeviation() {
+        ExamStatistics statistics = new ExamStatistics(histogramOf(70, 70, 70), 0);
+        assertEquals(70, statistics.getMean());
+        assertEquals(0, statistics.getStandardDeviation());
+    }
+
+    @Test
+    public void constructor_histogramModifiedAfterwards_statisticsUnchanged() {
+        ScoreHistogram scores = histogramOf(40, 60);
+        ExamStatistics statistics = new ExamStatistics(scores, 0);
+        scores.add(100);
+        assertEquals(2, statistics.getScoredCount());
+        assertEquals(60, statistics.getHighestScore());
+    }
+
+    @Test
+    public void getQuartiles() {
+        ExamStatistics statistics = new ExamStatistics(histogramOf(20, 40, 60, 80, 100), 1);
+        assertEquals(60, statistics.getMedian());
+        assertEquals(40, statistics.getLowerQuartile());
+        assertEquals(80, statistics.getUpperQuartile());
+        assertEquals(92, statistics.getPercentile(90));
+    }
+
+    @Test
+    public void equals() {
+        ExamStatistics statistics = new ExamStatistics(histogramOf(40, 60), 1);
+
+        // same values -> returns true
+        assertTrue(statistics.equals(new ExamStatistics(histogramOf(60, 40), 1)));
+
+        // same object -> returns true
+        assertTrue(statistics.equals(statistics));
+
+        // null -> returns false
+        assertFalse(statistics.equals(null));
+
+        // different missing count -> returns false
+        assertFalse(statistics.equals(new ExamStatistics(histogramOf(40, 60), 0)));
+
+        // different scores -> returns false
+        assertFalse(statistics.equals(new ExamStatistics(histogramOf(40, 61), 1)));
+    }
+}
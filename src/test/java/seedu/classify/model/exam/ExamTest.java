@@ -8,6 +8,8 @@ import static seedu.classify.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.testutil.RandomStrings;
+
 public class ExamTest {
 
     @Test
@@ -72,6 +74,38 @@ public class ExamTest {
         assertTrue(Exam.isValidScore("1"));
         assertTrue(Exam.isValidScore("99"));
         assertTrue(Exam.isValidScore("100"));
+        assertTrue(Exam.isValidScore("0000000100")); // leading zeros
+    }
+
+    @Test
+    public void isValidScore_randomStrings_sameAsValidationRegex() {
+        for (String test : RandomStrings.generate("0019 -a\u0663", 6, 20000, 0)) {
+            boolean isExpectedValid = test.matches(Exam.VALIDATION_REGEX)
+                    && Integer.parseInt(test) >= Exam.MIN_SCORE && Integer.parseInt(test) <= Exam.MAX_SCORE;
+            assertEquals(isExpectedValid, Exam.isValidScore(test), test);
+        }
+    }
+
+    @Test
+    public void constructor_nameAndScore_sameAsParsedExam() {
+        Exam test = new Exam("ca1", 60);
+        assertEquals("CA1", test.getExamName());
+        assertEquals(60, test.getScore());
+        assertEquals(new Exam("CA1 60").toString(), test.toString());
+
+        assertThrows(NullPointerException.class, () -> new Exam(null, 60));
+        assertThrows(IllegalArgumentException.class, () -> new Exam("CA3", 60));
+        assertThrows(IllegalArgumentException.class, () -> new Exam("CA1", 101));
+        assertThrows(IllegalArgumentException.class, () -> new Exam("CA1", -1));
+    }
+
+    @Test
+    public void getExamName_validIndex_reverseOfGetExamIndex() {
+        for (int examIndex = 0; examIndex < Exam.NUMBER_OF_EXAMS; examIndex++) {
+            assertEquals(examIndex, Exam.getExamIndex(Exam.getExamName(examIndex)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Exam.getExamName(Exam.NUMBER_OF_EXAMS));
+        assertThrows(IllegalArgumentException.class, () -> Exam.getExamName(-1));
     }
 
     @Test
@@ -0,0 +1,107 @@
+package seedu.classify.model.exam;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ScoreHistogramTest {
+
+    /**
+     * Returns a histogram holding {@code scores}.
+     */
+    public static ScoreHistogram histogramOf(int... scores) {
+        ScoreHistogram histogram = new ScoreHistogram();
+        for (int score : scores) {
+            histogram.add(score);
+        }
+        return histogram;
+    }
+
+    @Test
+    public void add_invalidScore_throwsIllegalArgumentException() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(101));
+    }
+
+    @Test
+    public void addAndRemove_updatesTotals() {
+        ScoreHistogram histogram = histogramOf(40, 60, 60);
+        assertEquals(3, histogram.getCount());
+        assertEquals(160, histogram.getSum());
+        assertEquals(8800, histogram.getSumOfSquares());
+        assertEquals(2, histogram.getOccurrences(60));
+
+        histogram.remove(60);
+        assertEquals(histogramOf(40, 60), histogram);
+        assertEquals(100, histogram.getSum());
+    }
+
+    @Test
+    public void getLowestAndHighestScore() {
+        assertEquals(0, new ScoreHistogram().getLowestScore());
+        assertEquals(0, new ScoreHistogram().getHighestScore());
+
+        ScoreHistogram histogram = histogramOf(35, 0, 100, 72);
+        assertEquals(0, histogram.getLowestScore());
+        assertEquals(100, histogram.getHighestScore());
+
+        histogram.remove(0);
+        histogram.remove(100);
+        assertEquals(35, histogram.getLowestScore());
+        assertEquals(72, histogram.getHighestScore());
+    }
+
+    @Test
+    public void getScoreAtRank() {
+        ScoreHistogram histogram = histogramOf(90, 10, 50, 50);
+        assertEquals(10, histogram.getScoreAtRank(0));
+        assertEquals(50, histogram.getScoreAtRank(1));
+        assertEquals(50, histogram.getScoreAtRank(2));
+        assertEquals(90, histogram.getScoreAtRank(3));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getScoreAtRank(4));
+    }
+
+    @Test
+    public void getPercentile() {
+        // empty histogram
+        assertTrue(Double.isNaN(new ScoreHistogram().getPercentile(50)));
+
+        // single score
+        assertEquals(70, histogramOf(70).getPercentile(25));
+
+        // odd number of scores -> median is the middle score
+        assertEquals(50, histogramOf(10, 50, 90).getPercentile(50));
+
+        // even number of scores -> median is interpolated
+        ScoreHistogram histogram = histogramOf(10, 20, 30, 40);
+        assertEquals(25, histogram.getPercentile(50));
+        assertEquals(17.5, histogram.getPercentile(25));
+        assertEquals(10, histogram.getPercentile(0));
+        assertEquals(40, histogram.getPercentile(100));
+
+        // out of range
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    public void getDistribution() {
+        ScoreHistogram histogram = histogramOf(0, 19, 20, 85, 100);
+        assertArrayEquals(new int[] {2, 1, 0, 0, 2}, histogram.getDistribution(20));
+        assertArrayEquals(new int[] {5}, histogram.getDistribution(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getDistribution(0));
+    }
+
+    @Test
+    public void copyConstructor_copyIsIndependent() {
+        ScoreHistogram histogram = histogramOf(30, 60);
+        ScoreHistogram copy = new ScoreHistogram(histogram);
+        histogram.add(90);
+        assertEquals(histogramOf(30, 60), copy);
+        assertFalse(copy.equals(histogram));
+    }
+}
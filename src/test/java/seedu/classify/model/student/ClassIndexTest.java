@@ -0,0 +1,65 @@
+package seedu.classify.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+import static seedu.classify.testutil.TypicalStudents.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+public class ClassIndexTest {
+
+    private static final Class CLASS_3A1 = new Class("3A1");
+    private static final Class CLASS_4A1 = new Class("4A1");
+
+    private final ClassIndex classIndex = new ClassIndex();
+
+    @Test
+    public void hasClass_nullClass_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> classIndex.hasClass(null));
+    }
+
+    @Test
+    public void hasClass_emptyIndex_returnsFalse() {
+        assertFalse(classIndex.hasClass(CLASS_3A1));
+    }
+
+    @Test
+    public void add_studentsOfSameClass_groupsStudents() {
+        classIndex.add(DANIEL);
+        classIndex.add(ELLE);
+        classIndex.add(ALICE);
+        assertTrue(classIndex.hasClass(CLASS_3A1));
+        assertEquals(new HashSet<>(Arrays.asList(DANIEL, ELLE)), classIndex.getStudents(CLASS_3A1));
+        assertEquals(Collections.singleton(ALICE), classIndex.getStudents(CLASS_4A1));
+    }
+
+    @Test
+    public void remove_lastStudentOfClass_removesClass() {
+        classIndex.add(ALICE);
+        classIndex.remove(ALICE);
+        assertFalse(classIndex.hasClass(CLASS_4A1));
+        assertTrue(classIndex.getStudents(CLASS_4A1).isEmpty());
+    }
+
+    @Test
+    public void setStudents_replacesContents() {
+        classIndex.add(ALICE);
+        classIndex.setStudents(Arrays.asList(DANIEL, ELLE));
+        assertFalse(classIndex.hasClass(CLASS_4A1));
+        assertEquals(2, classIndex.getStudents(CLASS_3A1).size());
+    }
+
+    @Test
+    public void getStudents_modifySet_throwsUnsupportedOperationException() {
+        classIndex.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> classIndex.getStudents(CLASS_4A1).remove(ALICE));
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.classify.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classify.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.testutil.RandomStrings;
+
 public class ClassTest {
 
     @Test
@@ -33,4 +36,11 @@ public class ClassTest {
         assertTrue(Class.isValidClassName("20A")); // character and number
         assertTrue(Class.isValidClassName("Loyalty 9")); // word and number
     }
+
+    @Test
+    public void isValidClassName_randomStrings_sameAsValidationRegex() {
+        for (String test : RandomStrings.generate("aZ09 -_.\u00e9\u0663\t", 8, 20000, 0)) {
+            assertEquals(test.matches(Class.VALIDATION_REGEX), Class.isValidClassName(test), test);
+        }
+    }
 }
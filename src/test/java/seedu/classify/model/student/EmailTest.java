@@ -7,6 +7,8 @@ import static seedu.classify.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.testutil.RandomStrings;
+
 public class EmailTest {
 
     @Test
@@ -80,4 +82,14 @@ public class EmailTest {
         assertEquals(email.toString(), emailString.toUpperCase());
     }
 
+    @Test
+    public void isValidEmail_randomStrings_sameAsValidationRegex() {
+        for (String test : RandomStrings.generate("aZ09@.-_+ !\u00e9", 12, 20000, 0)) {
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+        // fewer characters, so that more of the strings are valid emails
+        for (String test : RandomStrings.generate("a1@.-_", 10, 20000, 1)) {
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package seedu.classify.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.BENSON;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+import static seedu.classify.testutil.TypicalStudents.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.testutil.StudentBuilder;
+
+public class ExamRankingTest {
+
+    private final List<Student> students = Arrays.asList(ALICE, BENSON, DANIEL, ELLE);
+
+    @Test
+    public void getHighestScorers_nonPositiveCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ExamRanking.getHighestScorers(students, "SA1", 0));
+    }
+
+    @Test
+    public void getHighestScorers_fewerStudentsThanCount_returnsAllWithScores() {
+        // ELLE and BENSON have no grade for SA1
+        assertEquals(Arrays.asList(DANIEL, ALICE), ExamRanking.getHighestScorers(students, "SA1", 5));
+        assertEquals(Arrays.asList(ALICE, DANIEL), ExamRanking.getLowestScorers(students, "SA1", 5));
+    }
+
+    @Test
+    public void getHighestScorers_hugeCount_returnsAllWithScores() {
+        assertEquals(Arrays.asList(DANIEL, ALICE), ExamRanking.getHighestScorers(students, "SA1", Integer.MAX_VALUE));
+        assertEquals(Arrays.asList(ALICE, DANIEL), ExamRanking.getLowestScorers(students, "SA1", 2000000000));
+    }
+
+    @Test
+    public void getHighestScorers_moreStudentsThanCount_returnsBest() {
+        assertEquals(Collections.singletonList(DANIEL), ExamRanking.getHighestScorers(students, "SA1", 1));
+        assertEquals(Collections.singletonList(ALICE), ExamRanking.getLowestScorers(students, "SA1", 1));
+    }
+
+    @Test
+    public void getHighestScorers_equalScores_orderedByName() {
+        // BENSON and DANIEL both have 60 for SA2
+        assertEquals(Arrays.asList(BENSON, DANIEL), ExamRanking.getHighestScorers(students, "SA2", 2));
+        assertEquals(Arrays.asList(BENSON, DANIEL), ExamRanking.getLowestScorers(students, "SA2", 2));
+        assertEquals(Collections.singletonList(BENSON), ExamRanking.getLowestScorers(students, "SA2", 1));
+    }
+
+    @Test
+    public void getLowestScorers_manyStudents_matchesFullSort() {
+        List<Student> manyStudents = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            manyStudents.add(new StudentBuilder().withStudentName("Student " + i).withId(String.format("%03dA", i))
+                    .withExams("CA1 " + (i * 37 % 101)).build());
+        }
+        List<Student> expected = manyStudents.stream()
+                .sorted(Comparator.<Student>comparingInt(student -> student.getExamScore("CA1"))
+                        .thenComparing(NameComparator.getNameComparator()))
+                .limit(10)
+                .collect(Collectors.toList());
+        assertEquals(expected, ExamRanking.getLowestScorers(manyStudents, "CA1", 10));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.classify.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.classify.model.exam.ScoreHistogramTest.histogramOf;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+import static seedu.classify.testutil.TypicalStudents.ELLE;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.model.exam.ExamStatistics;
+import seedu.classify.testutil.StudentBuilder;
+
+public class ExamStatisticsIndexTest {
+
+    private static final Class CLASS_3A1 = new Class("3A1");
+    private static final Class CLASS_4A1 = new Class("4A1");
+
+    private final ExamStatisticsIndex index = new ExamStatisticsIndex();
+
+    @Test
+    public void getStatistics_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getStatistics(null, "SA1"));
+        assertThrows(NullPointerException.class, () -> index.getStatistics(CLASS_3A1, null));
+    }
+
+    @Test
+    public void getStatistics_unknownClass_noScores() {
+        ExamStatistics statistics = index.getStatistics(CLASS_3A1, "SA1");
+        assertFalse(statistics.hasScores());
+        assertEquals(0, statistics.getMissingCount());
+    }
+
+    @Test
+    public void getStatistics_someScoresMissing_countsMissing() {
+        index.setStudents(Arrays.asList(DANIEL, ELLE, ALICE));
+        ExamStatistics statistics = index.getStatistics(CLASS_3A1, "SA1");
+        assertEquals(new ExamStatistics(histogramOf(90), 1), statistics);
+    }
+
+    @Test
+    public void getStatistics_examNotTaken_allMissing() {
+        index.setStudents(Arrays.asList(DANIEL, ELLE, ALICE));
+        ExamStatistics statistics = index.getStatistics(CLASS_4A1, "CA1");
+        assertFalse(statistics.hasScores());
+        assertEquals(1, statistics.getMissingCount());
+    }
+
+    @Test
+    public void remove_extremeScore_updatesRange() {
+        Student low = new StudentBuilder().withStudentName("Low").withId("111A").withClassName("3A1")
+                .withExams("CA1 20").build();
+        index.setStudents(Arrays.asList(DANIEL, low));
+        assertEquals(20, index.getStatistics(CLASS_3A1, "CA1").getLowestScore());
+
+        index.remove(low);
+        ExamStatistics statistics = index.getStatistics(CLASS_3A1, "CA1");
+        assertEquals(new ExamStatistics(histogramOf(50), 0), statistics);
+    }
+
+    @Test
+    public void add_multipleScores_computesMeanAndStandardDeviation() {
+        for (String score : new String[] {"CA1 40", "CA1 60", "CA1 80"}) {
+            index.add(new StudentBuilder().withClassName("4A1").withExams(score).build());
+        }
+        ExamStatistics statistics = index.getStatistics(CLASS_4A1, "CA1");
+        assertEquals(60, statistics.getMean(), 1e-9);
+        assertEquals(Math.sqrt(800.0 / 3), statistics.getStandardDeviation(), 1e-9);
+        assertEquals(40, statistics.getLowestScore());
+        assertEquals(80, statistics.getHighestScore());
+    }
+}
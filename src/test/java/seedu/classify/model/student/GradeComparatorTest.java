@@ -1,11 +1,11 @@
 package seedu.classify.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static seedu.classify.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.classify.model.student.exceptions.ExamNotFoundException;
 import seedu.classify.testutil.StudentBuilder;
 
 public class GradeComparatorTest {
@@ -14,6 +14,7 @@ public class GradeComparatorTest {
     private Student s2 = new StudentBuilder().withClassName("4A").withExams("SA1 80").build();
     private Student s3 = new StudentBuilder().withClassName("4B").withExams("SA1 70").build();
     private Student s4 = new StudentBuilder().withClassName("4A").withExams("SA1 70").build();
+    private Student s5 = new StudentBuilder().withClassName("4A").withExams("CA1 70").build();
 
     @Test
     public void compare_studentOneDifferentClass_returnsOne() {
@@ -40,8 +41,31 @@ public class GradeComparatorTest {
     }
 
     @Test
-    public void compare_differentExam_throwsExamNotFoundException() {
+    public void compare_bothGradesMissing_returnsZero() {
         GradeComparator gradeComparator = new GradeComparator("SA2", new Class("4A"));
-        assertThrows(ExamNotFoundException.class, () -> gradeComparator.compare(s1, s2));
+        assertEquals(0, gradeComparator.compare(s1, s2));
+    }
+
+    @Test
+    public void compare_studentOneGradeMissing_returnsOne() {
+        GradeComparator gradeComparator = new GradeComparator("SA1", new Class("4A"));
+        assertEquals(1, gradeComparator.compare(s5, s1));
+        assertEquals(-1, gradeComparator.compare(s1, s5));
+    }
+
+    @Test
+    public void compare_bothDifferentClass_returnsZero() {
+        GradeComparator gradeComparator = new GradeComparator("SA1", new Class("4A"));
+        Student otherStudent = new StudentBuilder().withClassName("4C").withExams("SA1 10").build();
+        assertEquals(0, gradeComparator.compare(s3, otherStudent));
+        assertEquals(0, gradeComparator.compare(otherStudent, s3));
+    }
+
+    @Test
+    public void compare_precomputedStudents_sameResult() {
+        GradeComparator gradeComparator = new GradeComparator("SA1", new Class("4A"), Arrays.asList(s1, s5));
+        assertEquals(-1, gradeComparator.compare(s1, s2));
+        assertEquals(1, gradeComparator.compare(s5, s2));
+        assertEquals(-1, gradeComparator.compare(s1, s3));
     }
 }
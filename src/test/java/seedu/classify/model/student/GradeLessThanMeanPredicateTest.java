@@ -60,6 +60,13 @@ public class GradeLessThanMeanPredicateTest {
         assertFalse(predicate.test(s2));
     }
 
+    @Test
+    public void test_gradeMissing_returnsFalse() {
+        GradeLessThanMeanPredicate predicate = new GradeLessThanMeanPredicate(
+                new Class("4A"), 20.00, "SA1");
+        assertFalse(predicate.test(s1));
+    }
+
     @Test
     public void test_differentClass_returnsFalse() {
         GradeLessThanMeanPredicate predicate = new GradeLessThanMeanPredicate(
@@ -1,11 +1,14 @@
 package seedu.classify.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classify.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.testutil.RandomStrings;
+
 public class IdTest {
 
     @Test
@@ -37,4 +40,11 @@ public class IdTest {
         assertTrue(Id.isValidId("932B"));
         assertTrue(Id.isValidId("123C"));
     }
+
+    @Test
+    public void isValidId_randomStrings_sameAsValidationRegex() {
+        for (String test : RandomStrings.generate("09aZ -\u0663\u00e9", 5, 20000, 0)) {
+            assertEquals(test.matches(Id.VALIDATION_REGEX), Id.isValidId(test), test);
+        }
+    }
 }
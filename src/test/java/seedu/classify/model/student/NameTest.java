@@ -7,6 +7,8 @@ import static seedu.classify.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.testutil.RandomStrings;
+
 public class NameTest {
 
     @Test
@@ -44,4 +46,11 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void isValidName_randomStrings_sameAsValidationRegex() {
+        for (String test : RandomStrings.generate("aZ09 -_.\u00e9\u0663\t", 8, 20000, 0)) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+        }
+    }
 }
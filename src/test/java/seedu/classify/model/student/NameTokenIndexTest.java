@@ -0,0 +1,126 @@
+package seedu.classify.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.BENSON;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.commons.util.StringUtil;
+import seedu.classify.testutil.StudentBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void add_nullStudent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.add(null));
+    }
+
+    @Test
+    public void getStudentsWithAnyWord_emptyIndex_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), nameTokenIndex.getStudentsWithAnyWord(Collections.singletonList("alice")));
+    }
+
+    @Test
+    public void getStudentsWithAnyWord_wordsInNames_returnsUnionIgnoringCase() {
+        nameTokenIndex.setStudents(getTypicalStudent());
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                nameTokenIndex.getStudentsWithAnyWord(Arrays.asList("meIER", "Alice")));
+        // only whole words match
+        assertEquals(Collections.emptySet(), nameTokenIndex.getStudentsWithAnyWord(Arrays.asList("Meie", "Ali")));
+    }
+
+    @Test
+    public void getStudentsWithAnyWord_sameAsContainsWordIgnoreCase() {
+        nameTokenIndex.setStudents(getTypicalStudent());
+        List<String> keywords = Arrays.asList("kurz", "ELLE", "Kunz", "best", "nobody");
+        HashSet<Student> expected = new HashSet<>();
+        for (Student student : getTypicalStudent()) {
+            if (keywords.stream().anyMatch(keyword ->
+                    StringUtil.containsWordIgnoreCase(student.getStudentName().fullName, keyword))) {
+                expected.add(student);
+            }
+        }
+        assertEquals(expected, nameTokenIndex.getStudentsWithAnyWord(keywords));
+    }
+
+    @Test
+    public void getStudentsWithAnyWordPrefix_partialWordsIgnoringCase_returnsMatchingStudents() {
+        nameTokenIndex.setStudents(getTypicalStudent());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)),
+                nameTokenIndex.getStudentsWithAnyWordPrefix(Collections.singletonList("Meier")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)),
+                nameTokenIndex.getStudentsWithAnyWordPrefix(Arrays.asList("ali", "BEN")));
+    }
+
+    @Test
+    public void getStudentsWithAnyWordPrefix_noMatch_returnsEmptySet() {
+        nameTokenIndex.setStudents(getTypicalStudent());
+        assertEquals(Collections.emptySet(),
+                nameTokenIndex.getStudentsWithAnyWordPrefix(Collections.singletonList("lice")));
+        assertEquals(Collections.emptySet(),
+                nameTokenIndex.getStudentsWithAnyWordPrefix(Collections.singletonList("Zzz")));
+        assertEquals(Collections.emptySet(), nameTokenIndex.getStudentsWithAnyWordPrefix(Collections.emptyList()));
+    }
+
+    @Test
+    public void getStudentsWithAnyWordPrefix_anyCaseOfPrefix_returnsStudent() {
+        // the dotless i folds to the same token as i, so matching does not depend on the default locale
+        Student student = new StudentBuilder().withStudentName("Iris Lee").build();
+        nameTokenIndex.add(student);
+        for (String prefix : Arrays.asList("iri", "IRIS", "\u0131r", "Le")) {
+            assertEquals(Collections.singleton(student),
+                    nameTokenIndex.getStudentsWithAnyWordPrefix(Collections.singletonList(prefix)));
+        }
+    }
+
+    @Test
+    public void getStudentsWithAnyWordPrefix_whileUpdatedOnAnotherThread_returnsIndexedStudents() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            students.add(new StudentBuilder().withStudentName("Student " + i).build());
+        }
+        CompletableFuture<Void> updated = CompletableFuture.runAsync(() -> {
+            for (int round = 0; round < 20; round++) {
+                students.forEach(nameTokenIndex::add);
+                students.forEach(nameTokenIndex::remove);
+            }
+        });
+        while (!updated.isDone()) {
+            assertTrue(students.containsAll(
+                    nameTokenIndex.getStudentsWithAnyWordPrefix(Collections.singletonList("s"))));
+        }
+        updated.get();
+        assertEquals(Collections.emptySet(),
+                nameTokenIndex.getStudentsWithAnyWordPrefix(Collections.singletonList("s")));
+    }
+
+    @Test
+    public void remove_student_removedFromEveryWord() {
+        Student leeAlice = new StudentBuilder().withStudentName("Lee Alice Lee").build();
+        nameTokenIndex.add(ALICE);
+        nameTokenIndex.add(leeAlice);
+        nameTokenIndex.remove(leeAlice);
+        assertEquals(Collections.emptySet(), nameTokenIndex.getStudentsWithAnyWord(Collections.singletonList("lee")));
+        assertEquals(Collections.singleton(ALICE),
+                nameTokenIndex.getStudentsWithAnyWord(Collections.singletonList("alice")));
+
+        // removing a student that is not in the index does nothing
+        nameTokenIndex.remove(leeAlice);
+        assertEquals(Collections.singleton(ALICE),
+                nameTokenIndex.getStudentsWithAnyWord(Collections.singletonList("alice")));
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.classify.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.testutil.RandomStrings;
+
 public class PhoneTest {
 
     @Test
@@ -44,4 +46,11 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
+
+    @Test
+    public void isValidPhone_randomStrings_sameAsValidationRegex() {
+        for (String test : RandomStrings.generate("09 +-a\u0663", 6, 20000, 0)) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package seedu.classify.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.model.exam.Exam;
+
+public class StudentDisplayTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentDisplay(null));
+    }
+
+    @Test
+    public void constructor_allFieldsPresent_displaysAllFields() {
+        StudentDisplay display = new StudentDisplay(ALICE);
+        assertEquals("ALICE PAULINE", display.getStudentName());
+        assertEquals("123A", display.getId());
+        assertEquals("4A1", display.getClassName());
+        assertEquals("MAY PAULINE", display.getParentName());
+        assertEquals("94351253", display.getPhone());
+        assertEquals("ALICE.PAULINE@GMAIL.COM", display.getEmail());
+        assertEquals(Arrays.asList("CA2 90", "SA1 60"), display.getExamLabels());
+        assertEquals("\nName: ALICE PAULINE\nId: 123A\nClass: 4A1\nParent Name: MAY PAULINE"
+                + "\nParent Phone: 94351253\nParent Email: ALICE.PAULINE@GMAIL.COM\nExams: \nCA2 90\nSA1 60",
+                display.getSummary());
+    }
+
+    @Test
+    public void constructor_emptyParentDetails_showsPlaceholders() {
+        Student student = new Student(new Name("Amy Bee"), new Id("123Z"), new Class("1A"), new Name(),
+                new Phone(), new Email(), new HashSet<>(Collections.singletonList(new Exam("SA2", 70))));
+        StudentDisplay display = new StudentDisplay(student);
+        assertEquals(StudentDisplay.PLACEHOLDER, display.getParentName());
+        assertEquals(StudentDisplay.PLACEHOLDER, display.getPhone());
+        assertEquals(StudentDisplay.PLACEHOLDER, display.getEmail());
+        assertEquals("\nName: AMY BEE\nId: 123Z\nClass: 1A\nExams: \nSA2 70", display.getSummary());
+    }
+
+    @Test
+    public void getExamLabels_unorderedExams_sortedByName() {
+        assertEquals(Arrays.asList("CA1 50", "CA2 70", "SA1 90", "SA2 60"), new StudentDisplay(DANIEL).getExamLabels());
+        assertThrows(UnsupportedOperationException.class, () -> new StudentDisplay(DANIEL).getExamLabels().clear());
+    }
+
+    @Test
+    public void getDisplay_calledTwice_returnsSameDisplay() {
+        assertSame(ALICE.getDisplay(), ALICE.getDisplay());
+        assertEquals(ALICE.getDisplay().getSummary(), ALICE.toString());
+    }
+}
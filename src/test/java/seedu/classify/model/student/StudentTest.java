@@ -1,5 +1,6 @@
 package seedu.classify.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classify.logic.commands.CommandTestUtil.VALID_CLASS_BOB;
@@ -14,8 +15,13 @@ import static seedu.classify.testutil.Assert.assertThrows;
 import static seedu.classify.testutil.TypicalStudents.ALICE;
 import static seedu.classify.testutil.TypicalStudents.BOB;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.student.exceptions.ExamNotFoundException;
 import seedu.classify.testutil.StudentBuilder;
 
 public class StudentTest {
@@ -98,5 +104,32 @@ public class StudentTest {
         // different tags -> returns false
         editedAlice = new StudentBuilder(ALICE).withExams(VALID_EXAM_1).build();
         assertFalse(ALICE.equals(editedAlice));
+
+        // same exams with different scores -> returns false
+        Student student = new StudentBuilder().withExams("SA1 60").build();
+        assertFalse(student.equals(new StudentBuilder().withExams("SA1 61").build()));
+    }
+
+    @Test
+    public void getExamScore() {
+        // ALICE has CA2 90 and SA1 60
+        assertEquals(90, ALICE.getExamScore("CA2"));
+        assertEquals(60, ALICE.getExamScore("SA1"));
+        assertTrue(ALICE.hasExam("SA1"));
+
+        // exam without a score
+        assertFalse(ALICE.hasExam("CA1"));
+        assertThrows(ExamNotFoundException.class, () -> ALICE.getExamScore("CA1"));
+
+        // invalid exam name
+        assertFalse(ALICE.hasExam("SA3"));
+    }
+
+    @Test
+    public void getExams_builtFromScores() {
+        // ALICE has CA2 90 and SA1 60, and the exams are in the order of the exam names
+        assertEquals(Arrays.asList(new Exam("CA2 90"), new Exam("SA1 60")), new ArrayList<>(ALICE.getExams()));
+        assertEquals(90, ALICE.getExam("CA2").getScore());
+        assertThrows(ExamNotFoundException.class, () -> ALICE.getExam("CA1"));
     }
 }
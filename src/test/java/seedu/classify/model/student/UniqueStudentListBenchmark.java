@@ -0,0 +1,97 @@
+package seedu.classify.model.student;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.classify.testutil.Benchmark;
+import seedu.classify.testutil.StudentBuilder;
+
+/**
+ * Compares the time taken to check whether a student is already in a list of students by scanning the whole list,
+ * as was done before, and by looking up the name and id indexes of {@code UniqueStudentList}, which is done for every
+ * student that is added or edited.
+ * Its {@code main} method takes the numbers of students to measure with.
+ */
+public class UniqueStudentListBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1000, 5000, 13000, 26000};
+    private static final int LOOKUPS = 1000;
+    private static final Benchmark BENCHMARK = new Benchmark(3, 5);
+
+    public static void main(String[] args) throws Exception {
+        for (int size : Benchmark.parseSizes(args, DEFAULT_SIZES)) {
+            measure(size);
+        }
+    }
+
+    /**
+     * Prints the average time taken to add {@code size} students one at a time, and to check whether one of the last
+     * students added is in the list, by scanning the list and by looking up the indexes.
+     */
+    private static void measure(int size) throws Exception {
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(new StudentBuilder()
+                    .withStudentName("Student Number " + i)
+                    .withId(String.format("%03d%c", i / 26 % 1000, (char) ('A' + i % 26)))
+                    .build());
+        }
+        // The last students are found at the end of a scan, the worst case for a student that is in the list
+        List<Student> lookedUp = students.subList(Math.max(0, size - LOOKUPS), size);
+        List<Student> scannedList = addAllWithScan(students);
+        UniqueStudentList indexedList = addAllWithIndexes(students);
+
+        double[] nanos = BENCHMARK.measure(() -> addAllWithScan(students).size(), () ->
+                lookUpAll(scannedList, lookedUp), () ->
+                addAllWithIndexes(students).asUnmodifiableObservableList().size(), () ->
+                lookUpAll(indexedList, lookedUp));
+        System.out.printf("%6d students: add all scan %9.2f ms, indexed %7.2f ms;"
+                + " contains scan %10.1f ns, indexed %6.1f ns%n", size, nanos[0] / 1e6, nanos[2] / 1e6,
+                nanos[1] / lookedUp.size(), nanos[3] / lookedUp.size());
+    }
+
+    /**
+     * Adds {@code students} one at a time, checking each against every student added before it.
+     */
+    private static List<Student> addAllWithScan(List<Student> students) {
+        List<Student> list = new ArrayList<>();
+        for (Student student : students) {
+            if (!scanContains(list, student)) {
+                list.add(student);
+            }
+        }
+        return list;
+    }
+
+    private static UniqueStudentList addAllWithIndexes(List<Student> students) {
+        UniqueStudentList list = new UniqueStudentList();
+        for (Student student : students) {
+            list.add(student);
+        }
+        return list;
+    }
+
+    private static boolean scanContains(List<Student> list, Student toCheck) {
+        return list.stream().anyMatch(toCheck::hasSameNameOrId);
+    }
+
+    private static long lookUpAll(List<Student> list, List<Student> lookedUp) {
+        long foundCount = 0;
+        for (Student student : lookedUp) {
+            if (scanContains(list, student)) {
+                foundCount++;
+            }
+        }
+        return foundCount;
+    }
+
+    private static long lookUpAll(UniqueStudentList list, List<Student> lookedUp) {
+        long foundCount = 0;
+        for (Student student : lookedUp) {
+            if (list.contains(student)) {
+                foundCount++;
+            }
+        }
+        return foundCount;
+    }
+}
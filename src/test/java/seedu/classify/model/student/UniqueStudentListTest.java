@@ -5,9 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classify.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.classify.logic.commands.CommandTestUtil.VALID_EXAM_1;
+import static seedu.classify.logic.commands.CommandTestUtil.VALID_ID_BOB;
+import static seedu.classify.logic.commands.CommandTestUtil.VALID_STUDENT_NAME_BOB;
 import static seedu.classify.testutil.Assert.assertThrows;
 import static seedu.classify.testutil.TypicalStudents.ALICE;
 import static seedu.classify.testutil.TypicalStudents.BOB;
+import static seedu.classify.testutil.TypicalStudents.CARL;
+import static seedu.classify.testutil.TypicalStudents.GEORGE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +19,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.classify.model.student.exceptions.DuplicateStudentException;
 import seedu.classify.model.student.exceptions.StudentNotFoundException;
 import seedu.classify.testutil.StudentBuilder;
@@ -47,6 +52,36 @@ public class UniqueStudentListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameIdOnlyInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Student aliceWithBobName = new StudentBuilder(ALICE).withStudentName(VALID_STUDENT_NAME_BOB).build();
+        assertTrue(uniquePersonList.contains(aliceWithBobName));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void excludesButContains_onlyExcludedPersonMatches_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Student editedAlice = new StudentBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(uniquePersonList.excludesButContains(ALICE, editedAlice));
+    }
+
+    @Test
+    public void excludesButContains_otherPersonMatches_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Student aliceWithBobId = new StudentBuilder(ALICE).withId(VALID_ID_BOB).build();
+        assertTrue(uniquePersonList.excludesButContains(ALICE, aliceWithBobId));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +93,70 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(Arrays.asList(ALICE, null)));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        Student aliceWithBobId = new StudentBuilder(ALICE).withStudentName(VALID_STUDENT_NAME_BOB).build();
+        assertThrows(DuplicateStudentException.class, () ->
+                uniquePersonList.addAll(Arrays.asList(ALICE, CARL, aliceWithBobId)));
+        uniquePersonList.add(CARL);
+        assertThrows(DuplicateStudentException.class, () -> uniquePersonList.addAll(Arrays.asList(ALICE, CARL)));
+        assertEquals(Collections.singletonList(CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_uniquePersons_appendsToList() {
+        uniquePersonList.add(GEORGE);
+        uniquePersonList.addAll(Arrays.asList(ALICE, CARL));
+        assertEquals(Arrays.asList(GEORGE, ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_sortedStudentsIntoEmptyList_laterStudentsInsertedWithoutSorting() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, GEORGE), NameComparator.getNameComparator());
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.addInOrder(CARL, NameComparator.getNameComparator());
+        assertEquals(Arrays.asList(ALICE, CARL, GEORGE), uniquePersonList.asUnmodifiableObservableList());
+        // only the insertion is published, as the list is not sorted again
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_unsortedStudentsIntoEmptyList_sortedOnAddInOrder() {
+        uniquePersonList.addAll(Arrays.asList(GEORGE, ALICE), NameComparator.getNameComparator());
+        uniquePersonList.addInOrder(CARL, NameComparator.getNameComparator());
+        assertEquals(Arrays.asList(ALICE, CARL, GEORGE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addInOrder_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.addInOrder(ALICE, NameComparator.getNameComparator());
+        assertThrows(DuplicateStudentException.class, () ->
+                uniquePersonList.addInOrder(ALICE, NameComparator.getNameComparator()));
+    }
+
+    @Test
+    public void addInOrder_sortedList_insertsAtSortedPosition() {
+        uniquePersonList.setStudents(Arrays.asList(GEORGE, ALICE), NameComparator.getNameComparator());
+        uniquePersonList.addInOrder(CARL, NameComparator.getNameComparator());
+        assertEquals(Arrays.asList(ALICE, CARL, GEORGE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addInOrder_unsortedList_sortsWholeList() {
+        uniquePersonList.setStudents(Arrays.asList(GEORGE, ALICE));
+        uniquePersonList.addInOrder(CARL, NameComparator.getNameComparator());
+        assertEquals(Arrays.asList(ALICE, CARL, GEORGE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -109,6 +208,22 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesIdWithAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Student aliceWithBobId = new StudentBuilder(ALICE).withId(VALID_ID_BOB).build();
+        assertThrows(DuplicateStudentException.class, () -> uniquePersonList.setPerson(ALICE, aliceWithBobId));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -0,0 +1,198 @@
+package seedu.classify.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.HOON;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.classify.commons.exceptions.DataConversionException;
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.model.StudentRecord;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.Email;
+import seedu.classify.model.student.Id;
+import seedu.classify.model.student.Name;
+import seedu.classify.model.student.Phone;
+import seedu.classify.model.student.Student;
+
+public class BinaryStudentRecordStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableStudentRecordTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryStudentRecordStorage(null));
+        assertThrows(NullPointerException.class, () -> new BinaryStudentRecordStorage(Paths.get("a.bin"), null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryStudentRecordStorage(filePath).readStudentRecord().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_convertedFromJson() throws Exception {
+        Path jsonFilePath = TEST_DATA_FOLDER.resolve("typicalStudentRecord.json");
+        assertFalse(BinaryStudentRecordStorage.isBinaryFile(jsonFilePath));
+        assertEquals(getTypicalStudentRecord(),
+                new StudentRecord(new BinaryStudentRecordStorage(jsonFilePath).readStudentRecord().get()));
+    }
+
+    @Test
+    public void read_invalidJsonFile_throwsDataConversionException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidStudentRecord.json");
+        assertThrows(DataConversionException.class, () -> new BinaryStudentRecordStorage(filePath).readStudentRecord());
+    }
+
+    @Test
+    public void readAndSaveStudentRecord_previousJsonFile_convertedToBinaryFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("StudentRecord.json");
+        Path binaryFilePath = testFolder.resolve("StudentRecord.bin");
+        StudentRecord original = getTypicalStudentRecord();
+        new JournaledStudentRecordStorage(jsonFilePath).saveStudentRecord(original);
+        BinaryStudentRecordStorage storage = new BinaryStudentRecordStorage(binaryFilePath, jsonFilePath);
+
+        // read from the json file until the binary file is saved
+        StudentRecord converted = new StudentRecord(storage.readStudentRecord().get());
+        assertEquals(original, converted);
+        converted.addStudent(HOON);
+        storage.saveStudentRecord(converted);
+        assertTrue(BinaryStudentRecordStorage.isBinaryFile(binaryFilePath));
+        assertEquals(converted, new StudentRecord(storage.readStudentRecord().get()));
+
+        // the json file is left as it was
+        assertEquals(original,
+                new StudentRecord(new JournaledStudentRecordStorage(jsonFilePath).readStudentRecord().get()));
+    }
+
+    @Test
+    public void readStudentRecord_previousJsonFileSavedLater_readFromJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("StudentRecord.json");
+        Path binaryFilePath = testFolder.resolve("StudentRecord.bin");
+        StudentRecord original = getTypicalStudentRecord();
+        BinaryStudentRecordStorage storage = new BinaryStudentRecordStorage(binaryFilePath, jsonFilePath);
+        storage.saveStudentRecord(original);
+
+        // the json format was switched back to and saved to, so the binary file is out of date
+        StudentRecord changed = getTypicalStudentRecord();
+        changed.addStudent(HOON);
+        new JournaledStudentRecordStorage(jsonFilePath).saveStudentRecord(changed);
+        Files.setLastModifiedTime(binaryFilePath, FileTime.fromMillis(0));
+        assertEquals(changed, new StudentRecord(storage.readStudentRecord().get()));
+
+        // once the binary file is saved again, it is read instead
+        storage.saveStudentRecord(original);
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        Files.setLastModifiedTime(JournaledStudentRecordStorage.getJournalFilePath(jsonFilePath),
+                FileTime.fromMillis(0));
+        assertEquals(original, new StudentRecord(storage.readStudentRecord().get()));
+    }
+
+    @Test
+    public void readAndSaveStudentRecord_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.bin");
+        StudentRecord original = getTypicalStudentRecord();
+        BinaryStudentRecordStorage storage = new BinaryStudentRecordStorage(filePath);
+
+        storage.saveStudentRecord(original);
+        assertEquals(original, new StudentRecord(storage.readStudentRecord().get()));
+
+        // Student without parent details and exams
+        original.addStudent(new Student(new Name("Jane Doe"), new Id("001Z"), new Class("1A"), new Name(),
+                new Phone(), new Email(), Collections.emptySet()));
+        original.addStudent(HOON);
+        storage.saveStudentRecord(original);
+        assertEquals(original, new StudentRecord(storage.readStudentRecord().get()));
+
+        // Empty student record
+        storage.saveStudentRecord(new StudentRecord());
+        assertEquals(new StudentRecord(), new StudentRecord(storage.readStudentRecord().get()));
+    }
+
+    @Test
+    public void saveStudentRecord_fromAndToJson_lossless() throws Exception {
+        StudentRecord fromJson = new JsonStudentRecordStorage(TEST_DATA_FOLDER.resolve("typicalStudentRecord.json"))
+                .readStudentRecord().map(StudentRecord::new).get();
+        Path binaryFilePath = testFolder.resolve("StudentRecord.bin");
+        Path jsonFilePath = testFolder.resolve("StudentRecord.json");
+
+        new BinaryStudentRecordStorage(binaryFilePath).saveStudentRecord(fromJson);
+        StudentRecord fromBinary = new StudentRecord(new BinaryStudentRecordStorage(binaryFilePath)
+                .readStudentRecord().get());
+        new JsonStudentRecordStorage(jsonFilePath).saveStudentRecord(fromBinary);
+
+        assertEquals(fromJson, fromBinary);
+        assertEquals(fromJson, new StudentRecord(new JsonStudentRecordStorage(jsonFilePath).readStudentRecord().get()));
+    }
+
+    @Test
+    public void readStudentRecord_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.bin");
+        new BinaryStudentRecordStorage(filePath).saveStudentRecord(getTypicalStudentRecord());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> new BinaryStudentRecordStorage(filePath).readStudentRecord());
+    }
+
+    @Test
+    public void decode_invalidData_throwsIllegalValueException() throws Exception {
+        byte[] valid = encode(getTypicalStudentRecord());
+
+        // trailing data
+        assertThrows(IllegalValueException.class, BinaryStudentRecordStorage.MESSAGE_NOT_BINARY_FORMAT, () ->
+                BinaryStudentRecordStorage.decode(ByteBuffer.wrap(Arrays.copyOf(valid, valid.length + 1))));
+
+        // unsupported version
+        byte[] newerVersion = valid.clone();
+        ByteBuffer.wrap(newerVersion).putShort(Integer.BYTES, (short) (BinaryStudentRecordStorage.FORMAT_VERSION + 1));
+        assertThrows(IllegalValueException.class, () ->
+                BinaryStudentRecordStorage.decode(ByteBuffer.wrap(newerVersion)));
+
+        // score out of range
+        byte[] invalidScore = valid.clone();
+        invalidScore[invalidScore.length - 1] = 101;
+        assertThrows(IllegalValueException.class, () ->
+                BinaryStudentRecordStorage.decode(ByteBuffer.wrap(invalidScore)));
+    }
+
+    @Test
+    public void decode_missingString_throwsIllegalValueException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryStudentRecordStorage.MAGIC_NUMBER);
+        out.writeShort(BinaryStudentRecordStorage.FORMAT_VERSION);
+        out.writeInt(0); // no strings
+        out.writeInt(1); // one student
+        out.writeInt(0);
+        out.writeShort(0);
+        out.write(new byte[26]);
+        assertThrows(IllegalValueException.class, BinaryStudentRecordStorage.MESSAGE_INVALID_REFERENCE, () ->
+                BinaryStudentRecordStorage.decode(ByteBuffer.wrap(bytes.toByteArray())));
+    }
+
+    private static byte[] encode(StudentRecord studentRecord) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryStudentRecordStorage.encode(studentRecord, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+}
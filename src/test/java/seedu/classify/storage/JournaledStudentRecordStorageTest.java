@@ -0,0 +1,257 @@
+package seedu.classify.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.BENSON;
+import static seedu.classify.testutil.TypicalStudents.HOON;
+import static seedu.classify.testutil.TypicalStudents.IDA;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.classify.commons.exceptions.DataConversionException;
+import seedu.classify.commons.util.FileUtil;
+import seedu.classify.model.StudentRecord;
+import seedu.classify.model.student.Student;
+import seedu.classify.testutil.StudentBuilder;
+
+public class JournaledStudentRecordStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonStudentRecordStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledStudentRecordStorage(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledStudentRecordStorage(filePath).readStudentRecord().isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatStudentRecord.json");
+        assertThrows(DataConversionException.class, () ->
+                new JournaledStudentRecordStorage(filePath).readStudentRecord());
+    }
+
+    @Test
+    public void read_snapshotWithoutJournal_success() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        StudentRecord original = getTypicalStudentRecord();
+        new JsonStudentRecordStorage(filePath).saveStudentRecord(original);
+
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAndSaveStudentRecord_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        StudentRecord original = getTypicalStudentRecord();
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(filePath);
+
+        // First save writes a snapshot
+        storage.saveStudentRecord(original);
+        assertEquals(original, readWithNewStorage(filePath));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // Later changes only go to the journal
+        original.addStudent(HOON);
+        storage.saveStudentRecord(original);
+        original.removePerson(ALICE);
+        storage.saveStudentRecord(original);
+        original.setStudent(BENSON, new StudentBuilder(BENSON).withPhone("91234567").build());
+        storage.saveStudentRecord(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(original, readWithNewStorage(filePath));
+
+        // Saving after a read continues the same journal
+        JournaledStudentRecordStorage reopenedStorage = new JournaledStudentRecordStorage(filePath);
+        reopenedStorage.readStudentRecord();
+        original.addStudent(IDA);
+        reopenedStorage.saveStudentRecord(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveStudentRecord_manyChanges_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        Path journalFilePath = JournaledStudentRecordStorage.getJournalFilePath(filePath);
+        StudentRecord original = getTypicalStudentRecord();
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(filePath);
+        storage.saveStudentRecord(original);
+
+        for (int i = 0; i < 50; i++) {
+            if (original.hasStudent(HOON)) {
+                original.removePerson(HOON);
+            } else {
+                original.addStudent(HOON);
+            }
+            storage.saveStudentRecord(original);
+            assertTrue(Files.size(journalFilePath) <= Files.size(filePath));
+        }
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readStudentRecord_snapshotNotInNameOrder_journalReplayedOnSnapshotOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        StudentRecord original = getTypicalStudentRecord();
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(filePath);
+
+        // A renamed student keeps its position, so the snapshot is no longer in name order
+        Student renamedAlice = new StudentBuilder(ALICE).withStudentName("Zed").build();
+        original.setStudent(ALICE, renamedAlice);
+        storage.saveStudentRecord(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // The delete is journalled as a position in the snapshot's order
+        original.removePerson(BENSON);
+        storage.saveStudentRecord(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+
+        StudentRecord expected = new StudentRecord();
+        expected.loadStudents(original.getStudentList());
+        assertEquals(expected, readWithNewStorage(filePath));
+
+        // Saving after a read continues from the order of the snapshot and its journal
+        JournaledStudentRecordStorage reopenedStorage = new JournaledStudentRecordStorage(filePath);
+        StudentRecord reread = new StudentRecord(reopenedStorage.readStudentRecord().get());
+        reread.removePerson(renamedAlice);
+        reopenedStorage.saveStudentRecord(reread);
+        expected.removePerson(renamedAlice);
+        assertEquals(expected, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readStudentRecord_incompleteChangeAtEnd_changeDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        Path journalFilePath = JournaledStudentRecordStorage.getJournalFilePath(filePath);
+        StudentRecord original = getTypicalStudentRecord();
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(filePath);
+        storage.saveStudentRecord(original);
+        original.addStudent(HOON);
+        storage.saveStudentRecord(original);
+
+        Files.write(journalFilePath, "{\"index\":0,\"remo".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        JournaledStudentRecordStorage reopenedStorage = new JournaledStudentRecordStorage(filePath);
+        assertEquals(original, new StudentRecord(reopenedStorage.readStudentRecord().get()));
+
+        // The incomplete change is overwritten by the next change
+        original.addStudent(IDA);
+        reopenedStorage.saveStudentRecord(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readStudentRecord_invalidCompleteChange_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        Path journalFilePath = JournaledStudentRecordStorage.getJournalFilePath(filePath);
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(filePath);
+        storage.saveStudentRecord(getTypicalStudentRecord());
+
+        Files.write(journalFilePath, "{\"index\":100,\"removed\":1}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () ->
+                new JournaledStudentRecordStorage(filePath).readStudentRecord());
+    }
+
+    @Test
+    public void readStudentRecord_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        StudentRecord original = getTypicalStudentRecord();
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(filePath);
+        storage.saveStudentRecord(original);
+        original.addStudent(HOON);
+        storage.saveStudentRecord(original);
+
+        // Snapshot replaced without updating the journal
+        StudentRecord replacement = new StudentRecord();
+        replacement.addStudent(IDA);
+        new JsonStudentRecordStorage(filePath).saveStudentRecord(replacement);
+        assertEquals(replacement, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveStudentRecord_otherFilePath_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        Path otherFilePath = testFolder.resolve("OtherStudentRecord.json");
+        StudentRecord original = getTypicalStudentRecord();
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(filePath);
+
+        storage.saveStudentRecord(original, otherFilePath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new StudentRecord(storage.readStudentRecord(otherFilePath).get()));
+    }
+
+    @Test
+    public void readAndSaveStudentRecord_binaryFile_convertedToJson() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        StudentRecord original = getTypicalStudentRecord();
+        new BinaryStudentRecordStorage(filePath).saveStudentRecord(original);
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(filePath);
+
+        StudentRecord converted = new StudentRecord(storage.readStudentRecord().get());
+        assertEquals(original, converted);
+
+        converted.addStudent(HOON);
+        storage.saveStudentRecord(converted);
+        assertFalse(BinaryStudentRecordStorage.isBinaryFile(filePath));
+        assertEquals(converted, new StudentRecord(new JsonStudentRecordStorage(filePath).readStudentRecord().get()));
+    }
+
+    @Test
+    public void readAndSaveStudentRecord_previousBinaryFileSavedLater_convertedToJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("StudentRecord.json");
+        Path binaryFilePath = testFolder.resolve("StudentRecord.bin");
+        StudentRecord original = getTypicalStudentRecord();
+        JournaledStudentRecordStorage storage = new JournaledStudentRecordStorage(jsonFilePath, binaryFilePath);
+        storage.saveStudentRecord(original);
+
+        // the binary format was switched to and saved to, so the json file is out of date
+        StudentRecord changed = getTypicalStudentRecord();
+        changed.addStudent(HOON);
+        new BinaryStudentRecordStorage(binaryFilePath).saveStudentRecord(changed);
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        Files.setLastModifiedTime(JournaledStudentRecordStorage.getJournalFilePath(jsonFilePath),
+                FileTime.fromMillis(0));
+        StudentRecord converted = new StudentRecord(storage.readStudentRecord().get());
+        assertEquals(changed, converted);
+
+        // the next save writes a json snapshot, which is read from then on
+        converted.addStudent(IDA);
+        storage.saveStudentRecord(converted);
+        Files.setLastModifiedTime(binaryFilePath, FileTime.fromMillis(0));
+        assertEquals(converted, readWithNewStorage(jsonFilePath));
+        assertEquals(converted, new StudentRecord(storage.readStudentRecord().get()));
+        assertTrue(BinaryStudentRecordStorage.isBinaryFile(binaryFilePath));
+    }
+
+    @Test
+    public void saveStudentRecord_nullStudentRecord_throwsNullPointerException() {
+        JournaledStudentRecordStorage storage =
+                new JournaledStudentRecordStorage(testFolder.resolve("TempStudentRecord.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveStudentRecord(null));
+    }
+
+    private StudentRecord readWithNewStorage(Path filePath) throws Exception {
+        return new StudentRecord(new JournaledStudentRecordStorage(filePath).readStudentRecord().get());
+    }
+}
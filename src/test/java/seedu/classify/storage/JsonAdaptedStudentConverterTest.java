@@ -0,0 +1,105 @@
+package seedu.classify.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.model.student.Name;
+import seedu.classify.model.student.Student;
+import seedu.classify.testutil.StudentBuilder;
+
+public class JsonAdaptedStudentConverterTest {
+
+    private static final int NUMBER_OF_STUDENTS = JsonAdaptedStudentConverter.CHUNK_SIZE * 3 + 5;
+
+    @Test
+    public void getStudents_noStudents_emptyList() throws Exception {
+        assertTrue(new JsonAdaptedStudentConverter().getStudents().isEmpty());
+    }
+
+    @Test
+    public void getStudents_manyChunks_sameAsSequentialConversion() throws Exception {
+        List<JsonAdaptedStudent> adaptedStudents = getAdaptedStudents();
+        List<Student> expectedStudents = new ArrayList<>();
+        for (JsonAdaptedStudent adaptedStudent : adaptedStudents) {
+            expectedStudents.add(adaptedStudent.toModelType());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            JsonAdaptedStudentConverter converter = new JsonAdaptedStudentConverter(pool);
+            adaptedStudents.forEach(converter::add);
+            assertEquals(expectedStudents, converter.getStudents());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void getStudents_invalidStudents_firstInvalidStudentReported() {
+        List<JsonAdaptedStudent> adaptedStudents = getAdaptedStudents();
+        int firstInvalidIndex = JsonAdaptedStudentConverter.CHUNK_SIZE + 10;
+        adaptedStudents.set(firstInvalidIndex, invalidStudent());
+        adaptedStudents.set(JsonAdaptedStudentConverter.CHUNK_SIZE * 3 + 1, invalidStudent());
+
+        JsonAdaptedStudentConverter converter = new JsonAdaptedStudentConverter();
+        adaptedStudents.forEach(converter::add);
+        String expectedMessage = String.format(JsonAdaptedStudentConverter.MESSAGE_INVALID_STUDENT,
+                firstInvalidIndex + 1, Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::getStudents);
+    }
+
+    @Test
+    public void getStudents_invalidFirstStudent_laterChunksStopConverting() {
+        AtomicInteger convertedCount = new AtomicInteger();
+        List<JsonAdaptedStudent> adaptedStudents = new ArrayList<>();
+        adaptedStudents.add(invalidStudent());
+        for (int i = 1; i < JsonAdaptedStudentConverter.CHUNK_SIZE * 8; i++) {
+            Student student = new StudentBuilder()
+                    .withStudentName("Student " + i)
+                    .withId(String.format("%03d%c", i / 26, (char) ('A' + i % 26))).build();
+            adaptedStudents.add(new JsonAdaptedStudent(student) {
+                @Override
+                public Student toModelType() throws IllegalValueException {
+                    convertedCount.incrementAndGet();
+                    return super.toModelType();
+                }
+            });
+        }
+
+        // a single thread converts the chunks in the order they were added
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            JsonAdaptedStudentConverter converter = new JsonAdaptedStudentConverter(pool);
+            adaptedStudents.forEach(converter::add);
+            assertThrows(IllegalValueException.class, converter::getStudents);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(0, convertedCount.get());
+    }
+
+    private static List<JsonAdaptedStudent> getAdaptedStudents() {
+        List<JsonAdaptedStudent> adaptedStudents = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            Student student = new StudentBuilder()
+                    .withStudentName("Student " + i)
+                    .withId(String.format("%03d%c", i / 26, (char) ('A' + i % 26)))
+                    .withExams("CA1 " + i % 101).build();
+            adaptedStudents.add(new JsonAdaptedStudent(student));
+        }
+        return adaptedStudents;
+    }
+
+    private static JsonAdaptedStudent invalidStudent() {
+        return new JsonAdaptedStudent("R@chel", "001A", "1A", "", "", "", new ArrayList<>());
+    }
+}
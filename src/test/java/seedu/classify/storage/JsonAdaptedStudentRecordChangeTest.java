@@ -0,0 +1,85 @@
+package seedu.classify.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.Assert.assertThrows;
+import static seedu.classify.testutil.TypicalStudents.ALICE;
+import static seedu.classify.testutil.TypicalStudents.BENSON;
+import static seedu.classify.testutil.TypicalStudents.CARL;
+import static seedu.classify.testutil.TypicalStudents.HOON;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.commons.util.JsonUtil;
+import seedu.classify.model.student.Student;
+import seedu.classify.testutil.StudentBuilder;
+
+public class JsonAdaptedStudentRecordChangeTest {
+
+    @Test
+    public void constructor_sameStudents_emptyChange() {
+        assertTrue(new JsonAdaptedStudentRecordChange(getTypicalStudent(), getTypicalStudent()).isEmpty());
+        assertTrue(new JsonAdaptedStudentRecordChange(new ArrayList<>(), new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void applyTo_studentAdded_success() throws Exception {
+        List<Student> after = new ArrayList<>(getTypicalStudent());
+        after.add(HOON);
+        assertChangeReproduces(getTypicalStudent(), after);
+    }
+
+    @Test
+    public void applyTo_studentDeleted_success() throws Exception {
+        List<Student> after = new ArrayList<>(getTypicalStudent());
+        after.remove(BENSON);
+        assertChangeReproduces(getTypicalStudent(), after);
+    }
+
+    @Test
+    public void applyTo_studentEdited_success() throws Exception {
+        List<Student> after = new ArrayList<>(getTypicalStudent());
+        after.set(2, new StudentBuilder(CARL).withPhone("91234567").build());
+        assertChangeReproduces(getTypicalStudent(), after);
+    }
+
+    @Test
+    public void applyTo_allStudentsCleared_success() throws Exception {
+        assertChangeReproduces(getTypicalStudent(), new ArrayList<>());
+    }
+
+    @Test
+    public void applyTo_studentsReordered_success() throws Exception {
+        List<Student> after = new ArrayList<>(getTypicalStudent());
+        Collections.reverse(after);
+        assertChangeReproduces(getTypicalStudent(), after);
+    }
+
+    @Test
+    public void applyTo_changeOutsideList_throwsIllegalValueException() {
+        JsonAdaptedStudentRecordChange change = new JsonAdaptedStudentRecordChange(
+                Arrays.asList(ALICE, BENSON, CARL), Arrays.asList(ALICE, BENSON));
+        assertFalse(change.isEmpty());
+        assertThrows(IllegalValueException.class, JsonAdaptedStudentRecordChange.MESSAGE_INVALID_CHANGE, () ->
+                change.applyTo(new ArrayList<>(Arrays.asList(ALICE))));
+    }
+
+    /**
+     * Asserts that the change from {@code before} to {@code after}, after being converted to and from JSON,
+     * turns {@code before} into {@code after}.
+     */
+    private void assertChangeReproduces(List<Student> before, List<Student> after) throws Exception {
+        String json = JsonUtil.toCompactJsonString(new JsonAdaptedStudentRecordChange(before, after));
+        List<Student> students = new ArrayList<>(before);
+        JsonUtil.fromJsonString(json, JsonAdaptedStudentRecordChange.class).applyTo(students);
+        assertEquals(after, students);
+    }
+}
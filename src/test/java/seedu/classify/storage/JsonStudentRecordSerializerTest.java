@@ -0,0 +1,89 @@
+package seedu.classify.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classify.commons.exceptions.IllegalValueException;
+import seedu.classify.model.StudentRecord;
+import seedu.classify.testutil.TypicalStudents;
+
+public class JsonStudentRecordSerializerTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableStudentRecordTest");
+    private static final Path TYPICAL_STUDENTS_FILE = TEST_DATA_FOLDER.resolve("typicalStudentRecord.json");
+    private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentRecord.json");
+    private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentRecord.json");
+
+    @Test
+    public void readStudentRecord_typicalStudentsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_STUDENTS_FILE)) {
+            assertEquals(TypicalStudents.getTypicalStudentRecord(), JsonStudentRecordSerializer.readStudentRecord(in));
+        }
+    }
+
+    @Test
+    public void readStudentRecord_invalidStudentFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_STUDENT_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonStudentRecordSerializer.readStudentRecord(in));
+        }
+    }
+
+    @Test
+    public void readStudentRecord_duplicateStudents_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_STUDENT_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableStudentRecord.MESSAGE_DUPLICATE_STUDENT, () ->
+                    JsonStudentRecordSerializer.readStudentRecord(in));
+        }
+    }
+
+    @Test
+    public void readStudentRecord_otherFields_fieldsSkipped() throws Exception {
+        String json = "{\"version\": {\"major\": 1}, \"students\": [], \"tags\": [1, 2]}";
+        assertEquals(new StudentRecord(), readFromString(json));
+    }
+
+    @Test
+    public void readStudentRecord_notStudentRecord_throwsIoException() {
+        assertThrows(IOException.class, () -> readFromString("not json format!"));
+        assertThrows(IOException.class, () -> readFromString("[]"));
+        assertThrows(IOException.class, () -> readFromString("{\"students\": [1]}"));
+        assertThrows(IOException.class, () -> readFromString("{\"students\": ["));
+        assertThrows(IOException.class, () -> readFromString("{\"students\": []} {}"));
+    }
+
+    @Test
+    public void writeStudentRecord_thenRead_sameStudentRecord() throws Exception {
+        StudentRecord original = TypicalStudents.getTypicalStudentRecord();
+
+        String prettyJson = writeToString(original, false);
+        assertTrue(prettyJson.contains("\n"));
+        assertEquals(original, readFromString(prettyJson));
+
+        String compactJson = writeToString(original, true);
+        assertFalse(compactJson.contains("\n"));
+        assertEquals(original, readFromString(compactJson));
+    }
+
+    private static StudentRecord readFromString(String json) throws Exception {
+        return JsonStudentRecordSerializer.readStudentRecord(new ByteArrayInputStream(json.getBytes(UTF_8)));
+    }
+
+    private static String writeToString(StudentRecord studentRecord, boolean isCompact) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStudentRecordSerializer.writeStudentRecord(studentRecord, out, isCompact);
+        return new String(out.toByteArray(), UTF_8);
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.classify.commons.exceptions.DataConversionException;
+import seedu.classify.commons.util.FileUtil;
 import seedu.classify.model.ReadOnlyStudentRecord;
 import seedu.classify.model.StudentRecord;
 
@@ -87,6 +88,17 @@ public class JsonStudentRecordStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveStudentRecord_compactFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentRecord.json");
+        StudentRecord original = getTypicalStudentRecord();
+        JsonStudentRecordStorage jsonStudentRecordStorage = new JsonStudentRecordStorage(filePath, true);
+
+        jsonStudentRecordStorage.saveStudentRecord(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new StudentRecord(jsonStudentRecordStorage.readStudentRecord().get()));
+    }
+
     @Test
     public void saveStudentRecord_nullStudentRecord_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveStudentRecord(null, "SomeFile.json"));
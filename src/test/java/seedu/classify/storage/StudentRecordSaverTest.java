@@ -0,0 +1,101 @@
+package seedu.classify.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classify.testutil.TypicalStudents.HOON;
+import static seedu.classify.testutil.TypicalStudents.getTypicalStudentRecord;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.classify.model.ReadOnlyStudentRecord;
+import seedu.classify.model.StudentRecord;
+
+public class StudentRecordSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<Runnable> scheduledSaves = new ArrayList<>();
+
+    @Test
+    public void snapshotOf_studentRecordModified_snapshotUnchanged() {
+        StudentRecord studentRecord = getTypicalStudentRecord();
+        ReadOnlyStudentRecord snapshot = StudentRecordSaver.snapshotOf(studentRecord);
+        studentRecord.addStudent(HOON);
+        assertEquals(getTypicalStudentRecord(), new StudentRecord(snapshot));
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_onlyLatestSnapshotSaved() throws Exception {
+        JsonStudentRecordStorage storage = new JsonStudentRecordStorage(testFolder.resolve("record.json"));
+        StudentRecordSaver saver = new StudentRecordSaver(storage, scheduledSaves::add);
+        StudentRecord studentRecord = getTypicalStudentRecord();
+
+        saver.requestSave(StudentRecordSaver.snapshotOf(new StudentRecord()));
+        saver.requestSave(StudentRecordSaver.snapshotOf(studentRecord));
+        assertEquals(1, scheduledSaves.size());
+
+        scheduledSaves.remove(0).run();
+        assertEquals(studentRecord, new StudentRecord(storage.readStudentRecord().get()));
+
+        // a request after the save completes is scheduled again
+        saver.requestSave(StudentRecordSaver.snapshotOf(studentRecord));
+        assertEquals(1, scheduledSaves.size());
+    }
+
+    @Test
+    public void takeSaveError_saveFailed_errorReportedOnce() {
+        StudentRecordSaver saver = new StudentRecordSaver(
+                new IoExceptionThrowingStorageStub(testFolder.resolve("record.json")), Runnable::run);
+        assertFalse(saver.takeSaveError().isPresent());
+
+        saver.requestSave(StudentRecordSaver.snapshotOf(getTypicalStudentRecord()));
+        assertTrue(saver.takeSaveError().isPresent());
+        assertFalse(saver.takeSaveError().isPresent());
+    }
+
+    @Test
+    public void flush_pendingSnapshot_savedImmediately() throws Exception {
+        JsonStudentRecordStorage storage = new JsonStudentRecordStorage(testFolder.resolve("record.json"));
+        StudentRecordSaver saver = new StudentRecordSaver(storage, scheduledSaves::add);
+        StudentRecord studentRecord = getTypicalStudentRecord();
+
+        saver.requestSave(StudentRecordSaver.snapshotOf(studentRecord));
+        saver.flush();
+        assertEquals(studentRecord, new StudentRecord(storage.readStudentRecord().get()));
+
+        // the scheduled save finds nothing left to write
+        studentRecord.addStudent(HOON);
+        scheduledSaves.remove(0).run();
+        assertEquals(getTypicalStudentRecord(), new StudentRecord(storage.readStudentRecord().get()));
+    }
+
+    @Test
+    public void flush_nothingSaved_success() throws Exception {
+        StudentRecordSaver saver = new StudentRecordSaver(
+                new JsonStudentRecordStorage(testFolder.resolve("missing.json")), scheduledSaves::add);
+        saver.flush();
+        assertTrue(scheduledSaves.isEmpty());
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class IoExceptionThrowingStorageStub extends JsonStudentRecordStorage {
+        private IoExceptionThrowingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+}
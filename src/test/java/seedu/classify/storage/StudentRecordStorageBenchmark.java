@@ -0,0 +1,71 @@
+package seedu.classify.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.classify.model.StudentRecord;
+import seedu.classify.model.exam.Exam;
+import seedu.classify.model.student.Class;
+import seedu.classify.model.student.Email;
+import seedu.classify.model.student.Id;
+import seedu.classify.model.student.Name;
+import seedu.classify.model.student.Phone;
+import seedu.classify.model.student.Student;
+import seedu.classify.testutil.Benchmark;
+
+/**
+ * Compares the time taken to save and load student records of different sizes with
+ * {@code JsonStudentRecordStorage} and {@code BinaryStudentRecordStorage}.
+ * Its {@code main} method takes the student record sizes to compare. As ids are three digits followed by a letter,
+ * a student record holds at most 26000 students.
+ */
+public class StudentRecordStorageBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1000, 10000, 26000};
+    private static final Benchmark BENCHMARK = new Benchmark(3, 5);
+    private static final int NUMBER_OF_CLASSES = 40;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("benchmark");
+        for (int size : Benchmark.parseSizes(args, DEFAULT_SIZES)) {
+            StudentRecord studentRecord = generateStudentRecord(size);
+            measure("json", size, new JsonStudentRecordStorage(folder.resolve("record.json")), studentRecord);
+            measure("binary", size, new BinaryStudentRecordStorage(folder.resolve("record.bin")), studentRecord);
+        }
+    }
+
+    /**
+     * Prints the average time taken by {@code storage} to save and load {@code studentRecord}.
+     */
+    private static void measure(String format, int size, StudentRecordStorage storage, StudentRecord studentRecord)
+            throws Exception {
+        double[] nanos = BENCHMARK.measure(() -> {
+            storage.saveStudentRecord(studentRecord);
+            return 0;
+        }, () -> storage.readStudentRecord().get().getStudentList().size());
+        System.out.printf("%-6s %6d students: save %8.2f ms, load %8.2f ms, file %9d bytes%n", format, size,
+                nanos[0] / 1e6, nanos[1] / 1e6, Files.size(storage.getStudentRecordFilePath()));
+    }
+
+    /**
+     * Returns a student record of {@code size} students spread over a few classes, with varied scores.
+     */
+    private static StudentRecord generateStudentRecord(int size) {
+        StudentRecord studentRecord = new StudentRecord();
+        for (int i = 0; i < size; i++) {
+            Set<Exam> exams = new HashSet<>();
+            for (int examIndex = 0; examIndex < Exam.NUMBER_OF_EXAMS; examIndex++) {
+                if ((i + examIndex) % 5 != 0) {
+                    exams.add(new Exam(Exam.getExamName(examIndex), (i * 7 + examIndex * 13) % 101));
+                }
+            }
+            String id = String.format("%03d%c", i / 26, (char) ('A' + i % 26));
+            studentRecord.addStudent(new Student(new Name("Student " + i), new Id(id),
+                    new Class("Class " + i % NUMBER_OF_CLASSES), new Name("Parent " + i),
+                    new Phone(String.valueOf(80000000 + i)), new Email("parent" + i + "@example.com"), exams));
+        }
+        return studentRecord;
+    }
+}
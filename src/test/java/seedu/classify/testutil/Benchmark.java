@@ -0,0 +1,73 @@
+package seedu.classify.testutil;
+
+/**
+ * Times the tasks of a benchmark, which compares the time taken by different ways of doing the same work.
+ * Benchmarks are not run as part of the tests. Run the {@code main} method of a benchmark, optionally passing the
+ * sizes it measures with.
+ */
+public class Benchmark {
+
+    /**
+     * A piece of work to be timed, which returns a result that depends on the work done.
+     */
+    @FunctionalInterface
+    public interface Task {
+        long run() throws Exception;
+    }
+
+    // Keeps the results of the tasks in use, so that they are not optimised away
+    private static long resultSum;
+
+    private final int warmUpRounds;
+    private final int measuredRounds;
+
+    /**
+     * Creates a benchmark that runs its tasks {@code warmUpRounds} times before timing them over
+     * {@code measuredRounds} rounds.
+     */
+    public Benchmark(int warmUpRounds, int measuredRounds) {
+        this.warmUpRounds = warmUpRounds;
+        this.measuredRounds = measuredRounds;
+    }
+
+    /**
+     * Runs {@code tasks} one after another in each round, and returns the average time in nanoseconds taken by each
+     * task in a measured round.
+     */
+    public double[] measure(Task... tasks) throws Exception {
+        for (int i = 0; i < warmUpRounds; i++) {
+            for (Task task : tasks) {
+                resultSum += task.run();
+            }
+        }
+
+        long[] totalNanos = new long[tasks.length];
+        for (int i = 0; i < measuredRounds; i++) {
+            for (int j = 0; j < tasks.length; j++) {
+                long start = System.nanoTime();
+                resultSum += tasks[j].run();
+                totalNanos[j] += System.nanoTime() - start;
+            }
+        }
+
+        double[] averageNanos = new double[tasks.length];
+        for (int j = 0; j < tasks.length; j++) {
+            averageNanos[j] = (double) totalNanos[j] / measuredRounds;
+        }
+        return averageNanos;
+    }
+
+    /**
+     * Returns the sizes passed in {@code args}, or {@code defaultSizes} if none are passed.
+     */
+    public static int[] parseSizes(String[] args, int... defaultSizes) {
+        if (args.length == 0) {
+            return defaultSizes;
+        }
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
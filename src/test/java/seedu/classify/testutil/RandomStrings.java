@@ -0,0 +1,32 @@
+package seedu.classify.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A utility class to generate random strings, for checking a validator against the regex it replaces.
+ */
+public class RandomStrings {
+
+    private RandomStrings() {} // prevents instantiation
+
+    /**
+     * Returns {@code count} strings of up to {@code maxLength} characters, each picked from {@code alphabet}.
+     * The same {@code seed} always gives the same strings, so that a failing case can be reproduced.
+     */
+    public static List<String> generate(String alphabet, int maxLength, int count, long seed) {
+        Random random = new Random(seed);
+        List<String> strings = new ArrayList<>(count);
+        StringBuilder builder = new StringBuilder(maxLength);
+        for (int i = 0; i < count; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            strings.add(builder.toString());
+        }
+        return strings;
+    }
+}